@@ -0,0 +1,79 @@
+package com.axis.bench;
+
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.PageResponse;
+import com.axis.notification.model.dto.NotificationLogResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+
+/**
+ * JSON against the negotiated binary encodings of list responses (BinaryJacksonWriter): server-side
+ * serialization and client-side parsing of goal and notification pages. The encoded size of each
+ * combination is printed once per fork.
+ */
+@State(Scope.Benchmark)
+public class EncodingBenchmark {
+
+    @Param({"20", "100", "500"})
+    public int pageSize;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"goals", "notifications"})
+    public String payload;
+
+    private ObjectMapper mapper;
+    private Object page;
+    private JavaType pageType;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // Same derivation as BinaryJacksonWriter
+        mapper = switch (format) {
+            case "cbor" -> json.copyWith(new CBORFactory())
+                    .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            case "smile" -> json.copyWith(SmileFactory.builder()
+                            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                            .build())
+                    .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            default -> json;
+        };
+        if ("goals".equals(payload)) {
+            page = Fixtures.goalPage(pageSize);
+            pageType = mapper.getTypeFactory().constructParametricType(PageResponse.class, GoalResponse.class);
+        } else {
+            page = Fixtures.notificationPage(pageSize);
+            pageType = mapper.getTypeFactory().constructParametricType(
+                    com.axis.notification.model.dto.PageResponse.class, NotificationLogResponse.class);
+        }
+        encoded = mapper.writerFor(pageType).writeValueAsBytes(page);
+        System.out.printf("%n%s page of %d %s: %d bytes%n", format, pageSize, payload, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writerFor(pageType).writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return mapper.readValue(encoded, pageType);
+    }
+}
@@ -0,0 +1,39 @@
+package com.axis.bench;
+
+import com.axis.common.exception.BusinessException;
+import com.axis.common.exception.ResourceNotFoundException;
+import com.axis.goal.exception.ExceptionMappers;
+import jakarta.ws.rs.core.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+
+/**
+ * Error path of axis-goal: exception construction (including the stack trace) plus ApiError/Response building
+ */
+@State(Scope.Benchmark)
+public class ExceptionMappersBenchmark {
+
+    private ExceptionMappers exceptionMappers;
+    private UUID id;
+
+    @Setup
+    public void setUp() {
+        exceptionMappers = new ExceptionMappers();
+        id = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public Response resourceNotFound() {
+        return exceptionMappers.mapResourceNotFound(new ResourceNotFoundException("Goal", id));
+    }
+
+    @Benchmark
+    public Response businessException() {
+        return exceptionMappers.mapBusinessException(
+                new BusinessException("Custom field does not belong to this goal's type", Response.Status.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,65 @@
+package com.axis.bench;
+
+import com.axis.goal.mapper.GoalMapperImpl;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.PageResponse;
+import com.axis.goal.model.entity.Goal;
+import com.axis.goal.model.entity.GoalType;
+import com.axis.notification.model.dto.NotificationLogResponse;
+import com.axis.notification.model.entity.NotificationLog;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Synthetic data shared by the benchmarks
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Goal goal(GoalType type, UUID userId, int index) {
+        return Goal.builder()
+                .id(UUID.randomUUID())
+                .title("Goal number " + index)
+                .description("Run a half marathon under two hours before the end of the season, training three times a week")
+                .type(type)
+                .status(Goal.GoalStatus.values()[index % Goal.GoalStatus.values().length])
+                .userId(userId)
+                .createdAt(LocalDateTime.now().minusDays(index))
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    static PageResponse<GoalResponse> goalPage(int size) {
+        GoalMapperImpl mapper = new GoalMapperImpl();
+        UUID userId = UUID.randomUUID();
+        GoalType type = GoalType.builder().id(UUID.randomUUID()).title("Yearly").levelNumber(1).userId(userId).build();
+
+        List<GoalResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(mapper.toResponse(goal(type, userId, i)));
+        }
+        return PageResponse.of(content, size * 10L, 0, size);
+    }
+
+    static com.axis.notification.model.dto.PageResponse<NotificationLogResponse> notificationPage(int size) {
+        UUID userId = UUID.randomUUID();
+        List<NotificationLogResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime createdAt = LocalDateTime.now().minusHours(i);
+            content.add(new NotificationLogResponse(
+                    UUID.randomUUID(),
+                    userId,
+                    "Your goal 'Goal number " + i + "' is due tomorrow",
+                    NotificationLog.Channel.values()[i % NotificationLog.Channel.values().length],
+                    NotificationLog.Status.values()[i % NotificationLog.Status.values().length],
+                    createdAt,
+                    createdAt));
+        }
+        return com.axis.notification.model.dto.PageResponse.of(content, size * 10L, 0, size);
+    }
+}
@@ -0,0 +1,112 @@
+package com.axis.bench;
+
+import com.axis.goal.mapper.GoalMapper;
+import com.axis.goal.mapper.GoalMapperImpl;
+import com.axis.goal.mapper.GoalTypeMapper;
+import com.axis.goal.mapper.GoalTypeMapperImpl;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.GoalTypeRequest;
+import com.axis.goal.model.dto.GoalTypeResponse;
+import com.axis.goal.model.entity.CustomFieldDefinition;
+import com.axis.goal.model.entity.Goal;
+import com.axis.goal.model.entity.GoalType;
+import com.axis.goal.model.enums.CustomFieldType;
+import com.axis.notification.mapper.NotificationLogMapper;
+import com.axis.notification.mapper.NotificationLogMapperImpl;
+import com.axis.notification.model.dto.NotificationLogRequest;
+import com.axis.notification.model.dto.NotificationLogResponse;
+import com.axis.notification.model.entity.NotificationLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * MapStruct mappers invoked on every request. The generated implementations are instantiated directly,
+ * exactly as ArC does for {@code componentModel = "cdi"}.
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private GoalMapper goalMapper;
+    private GoalTypeMapper goalTypeMapper;
+    private NotificationLogMapper notificationLogMapper;
+
+    private Goal goal;
+    private GoalType goalType;
+    private NotificationLog notificationLog;
+    private GoalTypeRequest goalTypeRequest;
+    private NotificationLogRequest notificationLogRequest;
+
+    @Setup
+    public void setUp() {
+        goalMapper = new GoalMapperImpl();
+        goalTypeMapper = new GoalTypeMapperImpl();
+        notificationLogMapper = new NotificationLogMapperImpl();
+
+        UUID userId = UUID.randomUUID();
+        goalType = GoalType.builder()
+                .id(UUID.randomUUID())
+                .title("Quarterly")
+                .levelNumber(2)
+                .userId(userId)
+                .build();
+        List<CustomFieldDefinition> fields = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            fields.add(CustomFieldDefinition.builder()
+                    .id(UUID.randomUUID())
+                    .label("Field " + i)
+                    .type(CustomFieldType.STRING)
+                    .required(i % 2 == 0)
+                    .placeholder("Enter value " + i)
+                    .goalType(goalType)
+                    .build());
+        }
+        goalType.setCustomFields(fields);
+
+        goal = Fixtures.goal(goalType, userId, 0);
+
+        notificationLog = NotificationLog.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .content("Your goal deadline is approaching")
+                .channel(NotificationLog.Channel.EMAIL)
+                .status(NotificationLog.Status.SENT)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        goalTypeRequest = new GoalTypeRequest("Weekly");
+        notificationLogRequest = new NotificationLogRequest("Reminder", NotificationLog.Channel.WS, null);
+    }
+
+    @Benchmark
+    public GoalResponse goalToResponse() {
+        return goalMapper.toResponse(goal);
+    }
+
+    @Benchmark
+    public GoalTypeResponse goalTypeToResponse() {
+        return goalTypeMapper.toResponse(goalType);
+    }
+
+    @Benchmark
+    public GoalType goalTypeToEntity() {
+        return goalTypeMapper.toEntity(goalTypeRequest);
+    }
+
+    @Benchmark
+    public NotificationLogResponse notificationLogToResponse() {
+        return notificationLogMapper.toResponse(notificationLog);
+    }
+
+    @Benchmark
+    public NotificationLog notificationLogToEntity() {
+        return notificationLogMapper.toEntity(notificationLogRequest);
+    }
+}
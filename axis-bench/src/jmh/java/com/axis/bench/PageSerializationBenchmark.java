@@ -0,0 +1,39 @@
+package com.axis.bench;
+
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.PageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson serialization of a goal page, configured like the Quarkus default ObjectMapper
+ */
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100", "500"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<GoalResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        page = Fixtures.goalPage(pageSize);
+    }
+
+    @Benchmark
+    public byte[] serializeGoalPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
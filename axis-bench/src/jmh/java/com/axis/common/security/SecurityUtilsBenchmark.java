@@ -0,0 +1,50 @@
+package com.axis.common.security;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * User id extraction done by every service call. Lives in the SecurityUtils package to set the token directly.
+ */
+@State(Scope.Benchmark)
+public class SecurityUtilsBenchmark {
+
+    private SecurityUtils securityUtils;
+
+    @Setup
+    public void setUp() {
+        securityUtils = new SecurityUtils();
+        securityUtils.jwt = new StubJsonWebToken(UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public Optional<UUID> getCurrentUserIdAsUUID() {
+        return securityUtils.getCurrentUserIdAsUUID();
+    }
+
+    private record StubJsonWebToken(String subject) implements JsonWebToken {
+
+        @Override
+        public String getName() {
+            return subject;
+        }
+
+        @Override
+        public Set<String> getClaimNames() {
+            return Set.of("sub");
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getClaim(String claimName) {
+            return "sub".equals(claimName) ? (T) subject : null;
+        }
+    }
+}
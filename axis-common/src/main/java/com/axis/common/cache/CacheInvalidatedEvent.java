@@ -0,0 +1,22 @@
+package com.axis.common.cache;
+
+import java.util.Set;
+
+/**
+ * Fired by {@link InvalidationBus} for keys invalidated on this or another replica. {@code all} means every
+ * local entry must go, e.g. after the bus reconnected and may have missed notifications.
+ */
+public record CacheInvalidatedEvent(Set<String> keys, boolean all) {
+
+    public static CacheInvalidatedEvent of(Set<String> keys) {
+        return new CacheInvalidatedEvent(Set.copyOf(keys), false);
+    }
+
+    public static CacheInvalidatedEvent everything() {
+        return new CacheInvalidatedEvent(Set.of(), true);
+    }
+
+    public boolean affects(String key) {
+        return all || keys.contains(key);
+    }
+}
@@ -0,0 +1,312 @@
+package com.axis.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Cluster-wide cache invalidation over PostgreSQL {@code LISTEN/NOTIFY}.
+ * <p>
+ * {@link #publish} evicts locally right away (after commit when called inside a transaction) by firing a
+ * {@link CacheInvalidatedEvent}, and queues the keys for the other replicas. Queued keys are coalesced for
+ * {@code axis.invalidation.debounce} and sent as few {@code pg_notify} payloads as possible; past
+ * {@code axis.invalidation.max-keys} a single "invalidate everything" is sent instead. Each replica listens on a
+ * dedicated connection outside the pool, ignores its own notifications and fires the event for the others.
+ * After a reconnect it fires "everything", since notifications sent while it was away are lost.
+ * <p>
+ * Keys must not contain commas or whitespace. Disabled unless {@code axis.invalidation.enabled} is set.
+ */
+@Slf4j
+@ApplicationScoped
+public class InvalidationBus {
+
+    static final String ALL = "*";
+
+    // pg_notify payloads must be shorter than 8000 bytes
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(5);
+
+    @Inject
+    Event<CacheInvalidatedEvent> invalidated;
+
+    @Inject
+    Instance<DataSource> dataSource;
+
+    @Inject
+    Instance<TransactionSynchronizationRegistry> transactions;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "axis.invalidation.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.invalidation.channel", defaultValue = "axis_cache_invalidation")
+    String channel;
+
+    @ConfigProperty(name = "axis.invalidation.debounce", defaultValue = "50ms")
+    Duration debounce;
+
+    @ConfigProperty(name = "axis.invalidation.max-keys", defaultValue = "500")
+    int maxKeys;
+
+    @ConfigProperty(name = "axis.invalidation.poll-interval", defaultValue = "500ms")
+    Duration pollInterval;
+
+    @ConfigProperty(name = "quarkus.datasource.jdbc.url")
+    Optional<String> jdbcUrl;
+
+    @ConfigProperty(name = "quarkus.datasource.username")
+    Optional<String> username;
+
+    @ConfigProperty(name = "quarkus.datasource.password")
+    Optional<String> password;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private ScheduledExecutorService flusher;
+    private Thread listener;
+    private Counter sentKeys;
+    private Counter notifications;
+    private Counter received;
+    private Counter failures;
+
+    void onStart(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (!enabled) {
+            return;
+        }
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalStateException("Invalid axis.invalidation.channel '" + channel + "'");
+        }
+        if (jdbcUrl.isEmpty()) {
+            throw new IllegalStateException("axis.invalidation.enabled requires quarkus.datasource.jdbc.url");
+        }
+
+        sentKeys = Counter.builder("axis.invalidation.keys.sent")
+                .description("Invalidation keys sent to other replicas, after coalescing")
+                .register(registry);
+        notifications = Counter.builder("axis.invalidation.notifications.sent")
+                .description("pg_notify calls made for invalidations")
+                .register(registry);
+        received = Counter.builder("axis.invalidation.notifications.received")
+                .description("Invalidation notifications received from other replicas")
+                .register(registry);
+        failures = Counter.builder("axis.invalidation.failures")
+                .description("Failed invalidation sends and listener reconnects")
+                .register(registry);
+
+        running.set(true);
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("axis-invalidation-flusher").daemon().factory());
+        listener = Thread.ofPlatform().name("axis-invalidation-listener").daemon().start(this::listen);
+        log.info("Cache invalidation bus listening on channel '{}' as node {}", channel, nodeId);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!running.getAndSet(false)) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(1, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        listener.interrupt();
+    }
+
+    public void publish(String... keys) {
+        publish(List.of(keys));
+    }
+
+    /**
+     * Invalidates the keys on every replica. Inside a transaction this happens only once it has committed.
+     */
+    public void publish(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationRegistry registry = transactions.isResolvable() ? transactions.get() : null;
+        if (registry != null && registry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            Set<String> copy = Set.copyOf(keys);
+            registry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == Status.STATUS_COMMITTED) {
+                        publishNow(copy);
+                    }
+                }
+            });
+        } else {
+            publishNow(Set.copyOf(keys));
+        }
+    }
+
+    private void publishNow(Set<String> keys) {
+        invalidated.fire(CacheInvalidatedEvent.of(keys));
+        if (!running.get()) {
+            return;
+        }
+        pending.addAll(keys);
+        if (flushScheduled.compareAndSet(false, true)) {
+            flusher.schedule(this::flush, debounce.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        Set<String> keys = new HashSet<>(pending);
+        pending.removeAll(keys);
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<String> payloads = keys.size() > maxKeys ? List.of(nodeId + " " + ALL) : pack(keys);
+        try (Connection connection = dataSource.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : payloads) {
+                statement.setString(1, channel);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+            notifications.increment(payloads.size());
+            sentKeys.increment(keys.size());
+        } catch (SQLException e) {
+            failures.increment();
+            log.warn("Could not send {} cache invalidations, retrying: {}", keys.size(), e.getMessage());
+            pending.addAll(keys);
+            if (running.get() && flushScheduled.compareAndSet(false, true)) {
+                flusher.schedule(this::flush, RECONNECT_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Packs keys into {@code "<nodeId> key1,key2,..."} payloads below the NOTIFY size limit
+     */
+    private List<String> pack(Set<String> keys) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId).append(' ');
+        int header = payload.length();
+        for (String key : keys) {
+            int keyBytes = key.getBytes(StandardCharsets.UTF_8).length;
+            if (payload.length() > header && payload.length() + 1 + keyBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload.setLength(header);
+            }
+            if (payload.length() > header) {
+                payload.append(',');
+            }
+            payload.append(key);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    private void listen() {
+        boolean reconnect = false;
+        while (running.get()) {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl.get(), username.orElse(null), password.orElse(null))) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnect) {
+                    log.info("Cache invalidation listener reconnected, evicting all local entries");
+                    invalidated.fire(CacheInvalidatedEvent.everything());
+                }
+                reconnect = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running.get()) {
+                    PGNotification[] batch = pgConnection.getNotifications((int) pollInterval.toMillis());
+                    if (batch != null && batch.length > 0) {
+                        List<String> payloads = new ArrayList<>(batch.length);
+                        for (PGNotification notification : batch) {
+                            payloads.add(notification.getParameter());
+                        }
+                        receive(payloads);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running.get()) {
+                    return;
+                }
+                failures.increment();
+                log.warn("Cache invalidation listener failed, reconnecting in {}: {}", RECONNECT_DELAY, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // Takes plain payloads so the pgjdbc types stay out of the bean's method signatures (axis-media has no driver)
+    private void receive(List<String> payloads) {
+        Set<String> keys = new HashSet<>();
+        for (String payload : payloads) {
+            int separator = payload.indexOf(' ');
+            if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+                continue;
+            }
+            received.increment();
+            for (String key : payload.substring(separator + 1).split(",")) {
+                if (key.equals(ALL)) {
+                    invalidated.fire(CacheInvalidatedEvent.everything());
+                    return;
+                }
+                keys.add(key);
+            }
+        }
+        if (!keys.isEmpty()) {
+            invalidated.fire(CacheInvalidatedEvent.of(keys));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.axis.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process (L1) cache whose entries belong to an invalidation group, typically one user.
+ * <p>
+ * Kept coherent across replicas by evicting groups on {@link CacheInvalidatedEvent}s. A value loaded while an
+ * invalidation happened is returned but not stored, so a slow load cannot put pre-invalidation data back after
+ * the eviction. The TTL bounds staleness if a notification is ever lost.
+ */
+public class LocalCache {
+
+    private final Cache<Key, Object> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public LocalCache(long maximumSize, Duration ttl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public <T> T get(String group, String name, Supplier<T> loader) {
+        return get(group, name, loader, () -> true);
+    }
+
+    /**
+     * Like {@link #get(String, String, Supplier)}, but a loaded value is only stored if {@code storable} still
+     * holds after the load
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String group, String name, Supplier<T> loader, BooleanSupplier storable) {
+        Key key = new Key(group, name);
+        Object cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        long before = invalidations.get();
+        T value = loader.get();
+        if (value != null && invalidations.get() == before && storable.getAsBoolean()) {
+            entries.put(key, value);
+        }
+        return value;
+    }
+
+    public void invalidate(CacheInvalidatedEvent event) {
+        invalidations.incrementAndGet();
+        if (event.all()) {
+            entries.invalidateAll();
+        } else {
+            entries.asMap().keySet().removeIf(key -> event.keys().contains(key.group()));
+        }
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private record Key(String group, String name) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.axis.common.datasource;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-thread routing state shared by {@link ReadOnlyInterceptor} and the services' datasource resolvers.
+ * <p>
+ * Also remembers which principals wrote recently, so their reads can stay on the primary
+ * until the replica has had time to catch up (read-your-writes).
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> READ_ONLY = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private static final Map<Object, Long> LAST_WRITES = new ConcurrentHashMap<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static boolean isReadOnly() {
+        return READ_ONLY.get();
+    }
+
+    static void setReadOnly(boolean readOnly) {
+        if (readOnly) {
+            READ_ONLY.set(Boolean.TRUE);
+        } else {
+            READ_ONLY.remove();
+        }
+    }
+
+    /**
+     * Records that the given principal has just written to the primary
+     */
+    public static void recordWrite(Object principal) {
+        LAST_WRITES.put(principal, System.nanoTime());
+    }
+
+    /**
+     * Records a write of the given principal once the current transaction commits. The sticky window starts at the
+     * commit, however long the transaction ran, and transactions that roll back record nothing.
+     */
+    public static void recordWriteOnCommit(TransactionSynchronizationRegistry transactions, Object principal) {
+        String key = DataSourceRouting.class.getName() + ":" + principal;
+        if (transactions.getResource(key) != null || transactions.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            return;
+        }
+        transactions.putResource(key, Boolean.TRUE);
+        transactions.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    recordWrite(principal);
+                }
+            }
+        });
+    }
+
+    /**
+     * Checks if the given principal wrote within the sticky window
+     */
+    public static boolean wroteWithin(Object principal, Duration window) {
+        Long lastWrite = LAST_WRITES.get(principal);
+        return lastWrite != null && System.nanoTime() - lastWrite < window.toNanos();
+    }
+
+    /**
+     * Drops write markers older than the sticky window
+     */
+    public static void expireWrites(Duration window) {
+        long threshold = System.nanoTime() - window.toNanos();
+        LAST_WRITES.values().removeIf(lastWrite -> lastWrite < threshold);
+    }
+}
@@ -0,0 +1,37 @@
+package com.axis.common.datasource;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 300)
+public class ReadOnlyInterceptor {
+
+    @Inject
+    Instance<TransactionSynchronizationRegistry> transactions;
+
+    @AroundInvoke
+    Object route(InvocationContext context) throws Exception {
+        // Nested read-only calls and calls inside a transaction keep the current routing
+        if (DataSourceRouting.isReadOnly() || inTransaction()) {
+            return context.proceed();
+        }
+
+        DataSourceRouting.setReadOnly(true);
+        try {
+            return context.proceed();
+        } finally {
+            DataSourceRouting.setReadOnly(false);
+        }
+    }
+
+    private boolean inTransaction() {
+        return transactions.isResolvable() && transactions.get().getTransactionKey() != null;
+    }
+}
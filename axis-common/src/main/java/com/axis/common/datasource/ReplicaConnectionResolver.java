@@ -0,0 +1,40 @@
+package com.axis.common.datasource;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusConnectionProvider;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantConnectionResolver;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+/**
+ * Base of the services' tenant connection resolvers: the {@link #REPLICA} tenant is served by the {@code replica}
+ * datasource, every other tenant id by {@link #primary(String)}. Subclasses are the
+ * {@code @PersistenceUnitExtension} beans and pair with the service's own tenant resolver.
+ */
+public abstract class ReplicaConnectionResolver implements TenantConnectionResolver {
+
+    public static final String REPLICA = "replica";
+
+    @Inject
+    @DataSource("replica")
+    protected AgroalDataSource replicaDataSource;
+
+    private ConnectionProvider replica;
+
+    @PostConstruct
+    protected void initReplica() {
+        replica = new QuarkusConnectionProvider(replicaDataSource);
+    }
+
+    @Override
+    public ConnectionProvider resolve(String tenantId) {
+        return REPLICA.equals(tenantId) ? replica : primary(tenantId);
+    }
+
+    /**
+     * Connection provider for a tenant that reads and writes on a primary
+     */
+    protected abstract ConnectionProvider primary(String tenantId);
+}
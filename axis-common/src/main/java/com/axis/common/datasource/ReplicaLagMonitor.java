@@ -0,0 +1,98 @@
+package com.axis.common.datasource;
+
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Periodically measures replication lag on the replica. The replica is only used while the
+ * lag stays below {@code axis.datasource.replica.max-lag}; any probe failure falls back to the primary.
+ * <p>
+ * Shared by the JDBC services, which need a {@code replica} datasource and the scheduler; services without them
+ * exclude it with {@code quarkus.arc.exclude-types}.
+ */
+@Slf4j
+@ApplicationScoped
+public class ReplicaLagMonitor {
+
+    // A replica that has replayed everything it received is not lagging, even if the primary is idle
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    @Inject
+    @DataSource("replica")
+    AgroalDataSource replica;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "axis.datasource.replica.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.datasource.replica.max-lag", defaultValue = "2s")
+    Duration maxLag;
+
+    @ConfigProperty(name = "axis.datasource.replica.sticky-window", defaultValue = "5s")
+    Duration stickyWindow;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("axis.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .description("Replication lag of the read replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(every = "${axis.datasource.replica.lag-check-interval:5s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void checkLag() {
+        DataSourceRouting.expireWrites(stickyWindow);
+        if (!enabled) {
+            usable = false;
+            return;
+        }
+
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            lagSeconds = resultSet.getDouble(1);
+            boolean withinLimit = lagSeconds * 1000 <= maxLag.toMillis();
+            if (withinLimit != usable) {
+                log.info("Read replica {} (lag {}s)", withinLimit ? "enabled" : "disabled", lagSeconds);
+            }
+            usable = withinLimit;
+        } catch (SQLException e) {
+            if (usable) {
+                log.warn("Read replica probe failed, routing reads to primary: {}", e.getMessage());
+            }
+            usable = false;
+            lagSeconds = Double.NaN;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+}
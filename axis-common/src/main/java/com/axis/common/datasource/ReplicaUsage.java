@@ -0,0 +1,21 @@
+package com.axis.common.datasource;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Whether the current request opened a session on the read replica. Such a request may have read data older than
+ * the user's latest writes, so nothing it loaded may be stored in a shared cache.
+ */
+@RequestScoped
+public class ReplicaUsage {
+
+    private boolean used;
+
+    public void markUsed() {
+        used = true;
+    }
+
+    public boolean isUsed() {
+        return used;
+    }
+}
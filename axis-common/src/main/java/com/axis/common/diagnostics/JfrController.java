@@ -0,0 +1,111 @@
+package com.axis.common.diagnostics;
+
+import com.axis.common.exception.BusinessException;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+@Slf4j
+@Path("/api/admin/jfr")
+@RolesAllowed("admin")
+@RunOnVirtualThread
+@Tag(name = "Admin - JFR", description = "On-demand Java Flight Recorder profiling of this service instance")
+public class JfrController {
+
+    private static final String JFR_MEDIA_TYPE = "application/octet-stream";
+
+    @Inject
+    JfrRecorder recorder;
+
+    @Operation(
+        summary = "JFR status",
+        description = "Shows whether the continuous ring-buffer recording is running"
+    )
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Object> status() {
+        return Map.of("continuous", recorder.isContinuousRunning(), "profiles", JfrRecorder.PROFILES);
+    }
+
+    @Operation(
+        summary = "Record a time-boxed JFR",
+        description = "Records for the given duration with the chosen settings profile and returns the .jfr file. "
+                + "The request stays open for the whole recording."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Recording file"),
+        @APIResponse(responseCode = "400", description = "Invalid duration or profile"),
+        @APIResponse(responseCode = "403", description = "Caller is not an admin"),
+        @APIResponse(responseCode = "409", description = "Another recording is in progress")
+    })
+    @POST
+    @Path("/recordings")
+    @Produces(JFR_MEDIA_TYPE)
+    public Response record(
+            @Parameter(description = "Recording length, e.g. 30s or 2m") @QueryParam("duration") @DefaultValue("30s") String duration,
+            @Parameter(description = "JFR settings: default (low overhead) or profile") @QueryParam("profile") @DefaultValue("profile") String profile)
+            throws IOException, InterruptedException {
+        log.info("On-demand JFR recording requested: duration={}, profile={}", duration, profile);
+        return download(recorder.record(parseDuration(duration), profile), "recording");
+    }
+
+    @Operation(
+        summary = "Dump the continuous recording",
+        description = "Returns the events currently held by the continuous ring-buffer recording"
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Recording file"),
+        @APIResponse(responseCode = "403", description = "Caller is not an admin"),
+        @APIResponse(responseCode = "409", description = "Continuous recording is not running")
+    })
+    @POST
+    @Path("/continuous/dump")
+    @Produces(JFR_MEDIA_TYPE)
+    public Response dumpContinuous() throws IOException {
+        log.info("Continuous JFR dump requested");
+        return download(recorder.dumpContinuous(), "continuous");
+    }
+
+    private static Response download(java.nio.file.Path file, String kind) {
+        StreamingOutput body = output -> {
+            try {
+                Files.copy(file, output);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        String fileName = "axis-" + kind + "-" + System.currentTimeMillis() + ".jfr";
+        return Response.ok(body, JFR_MEDIA_TYPE)
+                .header("Content-Disposition", "attachment; filename=\"" + fileName + "\"")
+                .build();
+    }
+
+    private static Duration parseDuration(String value) {
+        try {
+            return Duration.parse("PT" + value.trim().toUpperCase());
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("Invalid duration '" + value + "', use e.g. 30s or 2m");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.axis.common.diagnostics;
+
+import com.axis.common.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.ws.rs.core.Response;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JFR recordings of this JVM for the admin profiling endpoint.
+ * <p>
+ * A continuous recording with the low-overhead {@code default} settings keeps the last
+ * {@code axis.jfr.continuous.max-age} of events in a ring buffer, so it can be dumped after an incident.
+ * On-demand recordings run for a bounded time with a chosen settings profile; only one runs at a time.
+ */
+@Slf4j
+@ApplicationScoped
+public class JfrRecorder {
+
+    static final Set<String> PROFILES = Set.of("default", "profile");
+
+    @ConfigProperty(name = "axis.jfr.continuous.enabled", defaultValue = "true")
+    boolean continuousEnabled;
+
+    @ConfigProperty(name = "axis.jfr.continuous.max-age", defaultValue = "15m")
+    Duration continuousMaxAge;
+
+    @ConfigProperty(name = "axis.jfr.continuous.max-size", defaultValue = "100M")
+    String continuousMaxSize;
+
+    @ConfigProperty(name = "axis.jfr.max-duration", defaultValue = "5m")
+    Duration maxDuration;
+
+    private final AtomicBoolean onDemandRunning = new AtomicBoolean();
+    private Recording continuous;
+
+    void onStart(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (!continuousEnabled) {
+            return;
+        }
+        try {
+            continuous = new Recording(Configuration.getConfiguration("default"));
+            continuous.setName("axis-continuous");
+            continuous.setToDisk(true);
+            continuous.setMaxAge(continuousMaxAge);
+            continuous.setMaxSize(parseSize(continuousMaxSize));
+            continuous.start();
+            log.info("Continuous JFR recording started (max age {}, max size {})", continuousMaxAge, continuousMaxSize);
+        } catch (IOException | ParseException e) {
+            log.error("Could not start continuous JFR recording", e);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (continuous != null) {
+            continuous.close();
+        }
+    }
+
+    public boolean isContinuousRunning() {
+        return continuous != null && continuous.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * Records for {@code duration} with the given settings profile and returns the resulting file.
+     * Blocks the calling (virtual) thread for the duration of the recording.
+     */
+    public Path record(Duration duration, String profile) throws IOException, InterruptedException {
+        if (!PROFILES.contains(profile)) {
+            throw new BusinessException("Unknown JFR profile '" + profile + "', expected one of " + PROFILES);
+        }
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new BusinessException("Recording duration must be between 1s and " + maxDuration);
+        }
+        if (!onDemandRunning.compareAndSet(false, true)) {
+            throw new BusinessException("Another JFR recording is in progress", Response.Status.CONFLICT);
+        }
+
+        try (Recording recording = new Recording(configuration(profile))) {
+            recording.setName("axis-on-demand");
+            recording.setToDisk(true);
+            Path file = Files.createTempFile("axis-jfr-", ".jfr");
+            log.info("Starting on-demand JFR recording for {} with profile '{}'", duration, profile);
+            recording.start();
+            Thread.sleep(duration.toMillis());
+            recording.stop();
+            recording.dump(file);
+            return file;
+        } finally {
+            onDemandRunning.set(false);
+        }
+    }
+
+    /**
+     * Writes the current content of the continuous ring buffer to a file
+     */
+    public Path dumpContinuous() throws IOException {
+        if (!isContinuousRunning()) {
+            throw new BusinessException("Continuous JFR recording is not running", Response.Status.CONFLICT);
+        }
+        Path file = Files.createTempFile("axis-jfr-continuous-", ".jfr");
+        continuous.dump(file);
+        log.info("Dumped continuous JFR recording to {}", file);
+        return file;
+    }
+
+    private static Configuration configuration(String profile) throws IOException {
+        try {
+            return Configuration.getConfiguration(profile);
+        } catch (ParseException e) {
+            throw new IOException("Invalid JFR configuration " + profile, e);
+        }
+    }
+
+    private static long parseSize(String size) {
+        String value = size.trim().toUpperCase();
+        long multiplier = switch (value.charAt(value.length() - 1)) {
+            case 'K' -> 1024L;
+            case 'M' -> 1024L * 1024;
+            case 'G' -> 1024L * 1024 * 1024;
+            default -> 1L;
+        };
+        String digits = multiplier == 1L ? value : value.substring(0, value.length() - 1);
+        return Long.parseLong(digits) * multiplier;
+    }
+}
@@ -1,6 +1,7 @@
 package com.axis.common.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,10 +10,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Error body of every service. Exception mappers return it inside a {@code Response}, so Quarkus does not see it
+ * as a return type and it is registered for reflection explicitly.
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@RegisterForReflection
 public class ApiError {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
@@ -32,6 +38,7 @@ public class ApiError {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @RegisterForReflection
     public static class FieldError {
         private String field;
         private String message;
@@ -0,0 +1,225 @@
+package com.axis.common.idempotency;
+
+import com.axis.common.dto.ApiError;
+import com.axis.common.security.SecurityUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.Providers;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implements {@code Idempotency-Key} for {@link Idempotent} resource methods.
+ * <p>
+ * Keys are scoped to the caller and the request method and path. The first request reserves the key. Once it
+ * completes with a 2xx, its status, {@link #REPLAYED_HEADERS} and body are stored for {@code axis.idempotency.ttl};
+ * failed requests release the key so the client can retry. The body is serialized by the writer of the negotiated
+ * media type, the same one that wrote the original response. A repeat with the same key and body gets the stored
+ * response without running the resource method. A repeat with a different body is rejected with 422, and a
+ * repeat while the first request is still running with 409.
+ */
+@Slf4j
+@Provider
+@Idempotent
+@Priority(Priorities.USER)
+public class IdempotencyFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String KEY_PROPERTY = IdempotencyFilter.class.getName() + ".key";
+    private static final String HASH_PROPERTY = IdempotencyFilter.class.getName() + ".hash";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final List<String> REPLAYED_HEADERS =
+            List.of(HttpHeaders.ETAG, HttpHeaders.LOCATION, HttpHeaders.CONTENT_LOCATION, HttpHeaders.LAST_MODIFIED);
+
+    @Inject
+    @Any
+    Instance<IdempotencyStore> stores;
+
+    @Inject
+    SecurityUtils securityUtils;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Context
+    Providers providers;
+
+    @ConfigProperty(name = "axis.idempotency.store", defaultValue = "memory")
+    String storeName;
+
+    @ConfigProperty(name = "axis.idempotency.ttl", defaultValue = "24h")
+    Duration ttl;
+
+    @ConfigProperty(name = "axis.idempotency.lock-timeout", defaultValue = "30s")
+    Duration lockTimeout;
+
+    private IdempotencyStore store;
+
+    @PostConstruct
+    void init() {
+        store = stores.select(NamedLiteral.of(storeName)).get();
+        log.info("Idempotency-Key support using the '{}' store", storeName);
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request) throws IOException {
+        String idempotencyKey = request.getHeaderString(HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            request.abortWith(error(400, "Bad Request", HEADER + " must not exceed " + MAX_KEY_LENGTH + " characters"));
+            return;
+        }
+
+        byte[] body = request.hasEntity() ? request.getEntityStream().readAllBytes() : new byte[0];
+        request.setEntityStream(new ByteArrayInputStream(body));
+
+        String path = request.getUriInfo().getPath();
+        String key = securityUtils.getCurrentUserId().orElse("anonymous") + ":" + request.getMethod() + ":" + path
+                + ":" + idempotencyKey;
+        String hash = hash(request.getMethod(), path, body);
+
+        Optional<StoredResponse> existing = store.find(key);
+        if (existing.isEmpty() && store.reserve(key, StoredResponse.inProgress(hash, Instant.now().plus(lockTimeout)))) {
+            request.setProperty(KEY_PROPERTY, key);
+            request.setProperty(HASH_PROPERTY, hash);
+            return;
+        }
+
+        // Lost the reservation race: treat as a concurrent repeat
+        StoredResponse stored = existing.orElseGet(() -> store.find(key).orElse(StoredResponse.inProgress(hash, Instant.now())));
+        if (!stored.requestHash().equals(hash)) {
+            request.abortWith(error(422, "Unprocessable Entity",
+                    HEADER + " was already used for a different request"));
+        } else if (!stored.completed()) {
+            request.abortWith(error(409, "Conflict",
+                    "A request with this " + HEADER + " is still being processed"));
+        } else {
+            log.debug("Replaying stored response for {} {}", request.getMethod(), path);
+            Response.ResponseBuilder replay = Response.status(stored.status())
+                    .entity(stored.body())
+                    .type(stored.contentType())
+                    .header(REPLAYED_HEADER, "true");
+            stored.headers().forEach(replay::header);
+            request.abortWith(replay.build());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) throws IOException {
+        String key = (String) request.getProperty(KEY_PROPERTY);
+        if (key == null) {
+            return;
+        }
+        if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            store.release(key);
+            return;
+        }
+
+        MediaType mediaType = response.getMediaType() != null ? response.getMediaType() : MediaType.APPLICATION_JSON_TYPE;
+        byte[] body = null;
+        if (response.hasEntity()) {
+            MessageBodyWriter<Object> writer = writerFor(response, mediaType);
+            if (writer != null) {
+                body = write(writer, response, mediaType);
+            } else {
+                log.warn("No writer for {} as {}, storing the idempotent response as JSON",
+                        response.getEntity().getClass().getName(), mediaType);
+                mediaType = MediaType.APPLICATION_JSON_TYPE;
+                body = objectMapper.writeValueAsBytes(response.getEntity());
+            }
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = response.getHeaderString(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        store.complete(key, new StoredResponse((String) request.getProperty(HASH_PROPERTY), true, response.getStatus(),
+                mediaType.toString(), headers, body, Instant.now().plus(ttl)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private MessageBodyWriter<Object> writerFor(ContainerResponseContext response, MediaType mediaType) {
+        Class<Object> type = (Class<Object>) response.getEntity().getClass();
+        return providers.getMessageBodyWriter(type, genericType(response), annotations(response), mediaType);
+    }
+
+    private static byte[] write(MessageBodyWriter<Object> writer, ContainerResponseContext response,
+                                MediaType mediaType) throws IOException {
+        Object entity = response.getEntity();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Own header map: writers may add headers, which must not leak into the response being sent
+        writer.writeTo(entity, entity.getClass(), genericType(response), annotations(response), mediaType,
+                new MultivaluedHashMap<>(), out);
+        return out.toByteArray();
+    }
+
+    private static Type genericType(ContainerResponseContext response) {
+        return response.getEntityType() != null ? response.getEntityType() : response.getEntity().getClass();
+    }
+
+    private static Annotation[] annotations(ContainerResponseContext response) {
+        return response.getEntityAnnotations() != null ? response.getEntityAnnotations() : new Annotation[0];
+    }
+
+    private static String hash(String method, String path, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((method + " " + path + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Response error(int status, String reason, String message) {
+        ApiError error = ApiError.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status)
+                .error(reason)
+                .message(message)
+                .build();
+        return Response.status(status).entity(error).type(MediaType.APPLICATION_JSON_TYPE).build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.axis.common.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Storage for idempotency keys. Implementations are CDI beans qualified with {@code @Named}; the one used is
+ * selected with {@code axis.idempotency.store}. Expired entries must be treated as absent.
+ */
+public interface IdempotencyStore {
+
+    Optional<StoredResponse> find(String key);
+
+    /**
+     * Atomically creates an in-progress entry.
+     *
+     * @return false when a live entry already exists for the key
+     */
+    boolean reserve(String key, StoredResponse inProgress);
+
+    void complete(String key, StoredResponse response);
+
+    /**
+     * Drops the entry so the client can retry, used when the original request failed
+     */
+    void release(String key);
+}
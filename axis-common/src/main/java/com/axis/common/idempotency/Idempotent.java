@@ -0,0 +1,18 @@
+package com.axis.common.idempotency;
+
+import jakarta.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables {@code Idempotency-Key} handling on a resource method: a repeated request with the same key replays
+ * the stored response instead of invoking the method again. Requests without the header are unaffected.
+ */
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Idempotent {
+}
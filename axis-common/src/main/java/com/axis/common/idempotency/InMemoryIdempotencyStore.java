@@ -0,0 +1,65 @@
+package com.axis.common.idempotency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded LRU store local to one instance. Good enough for a single replica or for tests; with several replicas
+ * a retry may land on another pod, so use the {@code jdbc} store there.
+ */
+@ApplicationScoped
+@Named("memory")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    @ConfigProperty(name = "axis.idempotency.max-entries", defaultValue = "10000")
+    int maxEntries;
+
+    private Map<String, StoredResponse> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<StoredResponse> find(String key) {
+        StoredResponse response = entries.get(key);
+        if (response != null && response.isExpired(Instant.now())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(response);
+    }
+
+    @Override
+    public synchronized boolean reserve(String key, StoredResponse inProgress) {
+        StoredResponse existing = entries.get(key);
+        if (existing != null && !existing.isExpired(Instant.now())) {
+            return false;
+        }
+        entries.put(key, inProgress);
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String key, StoredResponse response) {
+        entries.put(key, response);
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        entries.remove(key);
+    }
+}
@@ -0,0 +1,146 @@
+package com.axis.common.idempotency;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stores keys in the service's {@code idempotency_keys} table (see the service's Liquibase changelog), so all
+ * replicas share them. Expired rows are ignored on read and purged opportunistically on writes. Replayed headers
+ * are kept one {@code name: value} per line, header values cannot contain line breaks.
+ */
+@Slf4j
+@ApplicationScoped
+@Named("jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final int PURGE_EVERY_N_RESERVATIONS = 100;
+
+    @Inject
+    Instance<DataSource> dataSource;
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        String sql = "SELECT request_hash, completed, status, content_type, headers, body, expires_at "
+                + "FROM idempotency_keys WHERE idempotency_key = ? AND expires_at > ?";
+        try (Connection connection = dataSource.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, key);
+            statement.setTimestamp(2, Timestamp.from(Instant.now()));
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                return Optional.of(new StoredResponse(
+                        rs.getString("request_hash"),
+                        rs.getBoolean("completed"),
+                        rs.getInt("status"),
+                        rs.getString("content_type"),
+                        decodeHeaders(rs.getString("headers")),
+                        rs.getBytes("body"),
+                        rs.getTimestamp("expires_at").toInstant()));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read idempotency key", e);
+        }
+    }
+
+    @Override
+    public boolean reserve(String key, StoredResponse inProgress) {
+        // Takes over an expired row, otherwise inserts; a live row makes the statement affect nothing
+        String sql = "INSERT INTO idempotency_keys (idempotency_key, request_hash, completed, expires_at) "
+                + "VALUES (?, ?, false, ?) "
+                + "ON CONFLICT (idempotency_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, completed = false, "
+                + "status = NULL, content_type = NULL, headers = NULL, body = NULL, expires_at = EXCLUDED.expires_at "
+                + "WHERE idempotency_keys.expires_at <= ?";
+        try (Connection connection = dataSource.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, key);
+            statement.setString(2, inProgress.requestHash());
+            statement.setTimestamp(3, Timestamp.from(inProgress.expiresAt()));
+            statement.setTimestamp(4, Timestamp.from(Instant.now()));
+            boolean reserved = statement.executeUpdate() == 1;
+            if (ThreadLocalRandom.current().nextInt(PURGE_EVERY_N_RESERVATIONS) == 0) {
+                purgeExpired(connection);
+            }
+            return reserved;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not reserve idempotency key", e);
+        }
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        String sql = "UPDATE idempotency_keys SET completed = true, status = ?, content_type = ?, headers = ?, body = ?, "
+                + "expires_at = ? WHERE idempotency_key = ?";
+        try (Connection connection = dataSource.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, response.status());
+            statement.setString(2, response.contentType());
+            statement.setString(3, encodeHeaders(response.headers()));
+            statement.setBytes(4, response.body());
+            statement.setTimestamp(5, Timestamp.from(response.expiresAt()));
+            statement.setString(6, key);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not store idempotent response", e);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        try (Connection connection = dataSource.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND completed = false")) {
+            statement.setString(1, key);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not release idempotency key", e);
+        }
+    }
+
+    private void purgeExpired(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM idempotency_keys WHERE expires_at <= ?")) {
+            statement.setTimestamp(1, Timestamp.from(Instant.now()));
+            int purged = statement.executeUpdate();
+            if (purged > 0) {
+                log.debug("Purged {} expired idempotency keys", purged);
+            }
+        }
+    }
+
+    private static String encodeHeaders(Map<String, String> headers) {
+        return headers.entrySet().stream()
+                .map(header -> header.getKey() + ": " + header.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static Map<String, String> decodeHeaders(String headers) {
+        Map<String, String> decoded = new LinkedHashMap<>();
+        if (headers != null) {
+            for (String line : headers.split("\n")) {
+                int colon = line.indexOf(':');
+                if (colon > 0) {
+                    decoded.put(line.substring(0, colon), line.substring(colon + 1).trim());
+                }
+            }
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,28 @@
+package com.axis.common.idempotency;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * An idempotency key entry. While the original request is still running, {@code completed} is false and only
+ * the request hash is known. {@code headers} are the response headers replayed with the body, such as
+ * {@code ETag} and {@code Location}.
+ */
+public record StoredResponse(
+        String requestHash,
+        boolean completed,
+        int status,
+        String contentType,
+        Map<String, String> headers,
+        byte[] body,
+        Instant expiresAt
+) {
+
+    public static StoredResponse inProgress(String requestHash, Instant expiresAt) {
+        return new StoredResponse(requestHash, false, 0, null, Map.of(), null, expiresAt);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,38 @@
+package com.axis.common.metrics;
+
+/**
+ * Per-thread JDBC statement count and execution time, fed by {@link JdbcActivityListener}.
+ * <p>
+ * The counters only grow; callers take a {@link #snapshot()} before and after a unit of work and use the
+ * difference, so nested measurements do not interfere with each other.
+ */
+public final class JdbcActivity {
+
+    private static final ThreadLocal<Counters> COUNTERS = ThreadLocal.withInitial(Counters::new);
+
+    private JdbcActivity() {
+    }
+
+    static void record(long statements, long nanos) {
+        Counters counters = COUNTERS.get();
+        counters.statements += statements;
+        counters.nanos += nanos;
+    }
+
+    public static Snapshot snapshot() {
+        Counters counters = COUNTERS.get();
+        return new Snapshot(counters.statements, counters.nanos);
+    }
+
+    public record Snapshot(long statements, long nanos) {
+
+        public Snapshot since(Snapshot earlier) {
+            return new Snapshot(statements - earlier.statements, nanos - earlier.nanos);
+        }
+    }
+
+    private static final class Counters {
+        private long statements;
+        private long nanos;
+    }
+}
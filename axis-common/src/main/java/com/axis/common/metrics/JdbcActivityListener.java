@@ -0,0 +1,36 @@
+package com.axis.common.metrics;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * Hibernate session listener that feeds {@link JdbcActivity}. Hibernate creates one instance per session,
+ * register it with {@code hibernate.session.events.auto}. Hibernate instantiates it by class name, hence the
+ * reflection registration for native images.
+ */
+@RegisterForReflection
+public class JdbcActivityListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        JdbcActivity.record(1, System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        JdbcActivity.record(1, System.nanoTime() - batchStart);
+    }
+}
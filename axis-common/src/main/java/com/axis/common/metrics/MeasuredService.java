@@ -0,0 +1,20 @@
+package com.axis.common.metrics;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records latency, JDBC statement count and database time for every business method of the annotated bean.
+ * JDBC activity is only seen when {@link JdbcActivityListener} is registered with Hibernate.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface MeasuredService {
+}
@@ -0,0 +1,83 @@
+package com.axis.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs outside {@code @Transactional}, so the recorded time and statements include the commit and its flush.
+ * <p>
+ * Meters are tagged with the service class and method name only and are cached per method. Only the latency
+ * timer publishes a full histogram; statement counts use a few fixed buckets.
+ */
+@MeasuredService
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class MeasuredServiceInterceptor {
+
+    static final String METHOD_TIMER = "axis.service.method";
+    static final String STATEMENTS_SUMMARY = "axis.service.jdbc.statements";
+    static final String DB_TIMER = "axis.service.jdbc.time";
+
+    @Inject
+    MeterRegistry registry;
+
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object measure(InvocationContext context) throws Exception {
+        Meters methodMeters = meters.computeIfAbsent(context.getMethod(), this::register);
+        JdbcActivity.Snapshot before = JdbcActivity.snapshot();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = context.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            JdbcActivity.Snapshot jdbc = JdbcActivity.snapshot().since(before);
+            (failed ? methodMeters.error : methodMeters.success).record(elapsed, TimeUnit.NANOSECONDS);
+            methodMeters.statements.record(jdbc.statements());
+            methodMeters.dbTime.record(jdbc.nanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Meters register(Method method) {
+        String service = method.getDeclaringClass().getSimpleName();
+        String name = method.getName();
+        return new Meters(
+                methodTimer(service, name, "success"),
+                methodTimer(service, name, "error"),
+                DistributionSummary.builder(STATEMENTS_SUMMARY)
+                        .description("JDBC statements executed per service method invocation")
+                        .tags("service", service, "method", name)
+                        .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                        .register(registry),
+                Timer.builder(DB_TIMER)
+                        .description("Time spent executing JDBC statements per service method invocation")
+                        .tags("service", service, "method", name)
+                        .register(registry));
+    }
+
+    private Timer methodTimer(String service, String method, String outcome) {
+        return Timer.builder(METHOD_TIMER)
+                .description("Service method latency")
+                .tags("service", service, "method", method, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private record Meters(Timer success, Timer error, DistributionSummary statements, Timer dbTime) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.axis.common.metrics;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Lets {@link VirtualThreadPinningMonitor} attribute pinning events to the endpoint running on the virtual thread.
+ */
+@Provider
+public class VirtualThreadEndpointFilter implements ContainerRequestFilter {
+
+    @Inject
+    VirtualThreadPinningMonitor monitor;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (resourceInfo.getResourceMethod() != null) {
+            monitor.registerEndpoint(resourceInfo.getResourceClass().getSimpleName() + "."
+                    + resourceInfo.getResourceMethod().getName());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.axis.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the JFR virtual thread events of this JVM into Micrometer:
+ * <ul>
+ *     <li>{@code axis.vthread.pinned} - timer of pinned periods longer than {@code axis.vthread.pinning.threshold},
+ *     tagged with the endpoint that ran on the thread and the top non-JDK frame</li>
+ *     <li>{@code axis.vthread.submit.failed} - virtual threads that could not be scheduled on a carrier</li>
+ * </ul>
+ * Frame tags are limited to {@code axis.vthread.pinning.max-frames} distinct values, later frames are
+ * reported as {@code other}.
+ * <p>
+ * When {@code axis.vthread.pinning.fail-threshold} is set (the test profile), pins longer than it are kept as
+ * {@link Violation}s so tests can call {@link #assertNoViolations()}. JFR delivers events asynchronously, so
+ * the check belongs at the end of a test rather than in the request itself.
+ */
+@Slf4j
+@ApplicationScoped
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    static final String OTHER = "other";
+    static final String NO_ENDPOINT = "none";
+
+    private static final int MAX_TRACKED_THREADS = 10_000;
+    private static final int LOGGED_FRAMES = 8;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "axis.vthread.pinning.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.vthread.pinning.threshold", defaultValue = "20ms")
+    Duration threshold;
+
+    @ConfigProperty(name = "axis.vthread.pinning.max-frames", defaultValue = "20")
+    int maxFrames;
+
+    @ConfigProperty(name = "axis.vthread.pinning.fail-threshold")
+    Optional<Duration> failThreshold;
+
+    // Virtual thread ids are never reused, so recently finished requests can still be resolved when their events arrive
+    private final Map<Long, String> endpointsByThread = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+            return size() > MAX_TRACKED_THREADS;
+        }
+    });
+
+    private final Set<String> frames = ConcurrentHashMap.newKeySet();
+    private final List<Violation> violations = new CopyOnWriteArrayList<>();
+
+    private RecordingStream stream;
+    private Counter submitFailed;
+
+    void onStart(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (!enabled) {
+            return;
+        }
+        submitFailed = Counter.builder("axis.vthread.submit.failed")
+                .description("Virtual threads that could not be submitted to a carrier thread")
+                .register(registry);
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.enable(SUBMIT_FAILED_EVENT);
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED_EVENT, this::onSubmitFailed);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+        if (!violations.isEmpty()) {
+            log.error("{} virtual thread pinning violations recorded:\n{}", violations.size(), describe(violations));
+        }
+    }
+
+    /**
+     * Associates the current virtual thread with the endpoint it serves
+     */
+    public void registerEndpoint(String endpoint) {
+        Thread thread = Thread.currentThread();
+        if (enabled && thread.isVirtual()) {
+            endpointsByThread.put(thread.threadId(), endpoint);
+        }
+    }
+
+    public List<Violation> violations() {
+        return List.copyOf(violations);
+    }
+
+    public void clearViolations() {
+        violations.clear();
+    }
+
+    /**
+     * Fails when any pin longer than {@code axis.vthread.pinning.fail-threshold} has been observed.
+     * Events are flushed by JFR about once a second, so call this after the requests under test have completed
+     * and the stream has caught up.
+     */
+    public void assertNoViolations() {
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Virtual thread pinned longer than " + failThreshold.orElse(threshold)
+                    + ":\n" + describe(violations));
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        String endpoint = thread != null ? endpointsByThread.getOrDefault(thread.getJavaThreadId(), NO_ENDPOINT) : NO_ENDPOINT;
+        List<RecordedFrame> stack = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String frame = boundedFrame(topApplicationFrame(stack));
+        Duration duration = event.getDuration();
+
+        Timer.builder("axis.vthread.pinned")
+                .description("Time virtual threads spent pinned to their carrier")
+                .tags("endpoint", endpoint, "frame", frame)
+                .register(registry)
+                .record(duration);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Virtual thread pinned for {} in {}:\n{}", duration, endpoint, format(event.getStackTrace()));
+        }
+        if (failThreshold.isPresent() && duration.compareTo(failThreshold.get()) > 0) {
+            violations.add(new Violation(endpoint, frame, duration, format(event.getStackTrace())));
+        }
+    }
+
+    private void onSubmitFailed(RecordedEvent event) {
+        submitFailed.increment();
+        log.warn("Virtual thread submit failed: {}", event.getString("exceptionMessage"));
+    }
+
+    private String boundedFrame(String frame) {
+        if (frames.contains(frame)) {
+            return frame;
+        }
+        if (frames.size() < maxFrames && frames.add(frame)) {
+            return frame;
+        }
+        return OTHER;
+    }
+
+    private static String topApplicationFrame(List<RecordedFrame> stack) {
+        return stack.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !isJdkFrame(frame.getMethod().getType().getName()))
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .orElse(OTHER);
+    }
+
+    private static boolean isJdkFrame(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describe(List<Violation> violations) {
+        return violations.stream()
+                .map(violation -> violation.endpoint() + " pinned " + violation.duration().toMillis() + " ms\n" + violation.stack())
+                .collect(Collectors.joining("\n"));
+    }
+
+    public record Violation(String endpoint, String frame, Duration duration, String stack) {
+    }
+}
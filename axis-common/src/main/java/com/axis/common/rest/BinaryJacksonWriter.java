@@ -0,0 +1,77 @@
+package com.axis.common.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Writes response entities as CBOR or Smile when the client asks for them in {@code Accept}.
+ * <p>
+ * The binary mappers are copies of the application's ObjectMapper, so field names and inclusion rules match the
+ * JSON output. UUIDs are written as 16-byte binary values and dates as numeric arrays instead of ISO text.
+ * Endpoints opt in by listing {@link BinaryMediaType} in their {@code @Produces}.
+ */
+@Provider
+@Produces({BinaryMediaType.CBOR, BinaryMediaType.SMILE})
+public class BinaryJacksonWriter implements MessageBodyWriter<Object> {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+
+    @PostConstruct
+    void init() {
+        cborMapper = objectMapper.copyWith(new CBORFactory())
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        smileMapper = objectMapper.copyWith(SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build())
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return mapperFor(mediaType) != null;
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        ObjectMapper mapper = mapperFor(mediaType);
+        // Serialized to a buffer first: Jackson would otherwise close the container's stream
+        entityStream.write(mapper.writerFor(mapper.constructType(genericType)).writeValueAsBytes(entity));
+    }
+
+    private ObjectMapper mapperFor(MediaType mediaType) {
+        // Exact match only: wildcards are resolved to application/json by the endpoints' @Produces order
+        if (isType(mediaType, BinaryMediaType.CBOR_TYPE)) {
+            return cborMapper;
+        }
+        if (isType(mediaType, BinaryMediaType.SMILE_TYPE)) {
+            return smileMapper;
+        }
+        return null;
+    }
+
+    private static boolean isType(MediaType mediaType, MediaType expected) {
+        return mediaType != null
+                && expected.getType().equalsIgnoreCase(mediaType.getType())
+                && expected.getSubtype().equalsIgnoreCase(mediaType.getSubtype());
+    }
+}
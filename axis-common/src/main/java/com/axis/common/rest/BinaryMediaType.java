@@ -0,0 +1,18 @@
+package com.axis.common.rest;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Binary encodings of the JSON model offered by list endpoints next to {@code application/json}
+ */
+public final class BinaryMediaType {
+
+    public static final String CBOR = "application/cbor";
+    public static final MediaType CBOR_TYPE = new MediaType("application", "cbor");
+
+    public static final String SMILE = "application/x-jackson-smile";
+    public static final MediaType SMILE_TYPE = new MediaType("application", "x-jackson-smile");
+
+    private BinaryMediaType() {
+    }
+}
@@ -0,0 +1,43 @@
+package com.axis.goal;
+
+import com.axis.goal.model.dto.BoardColumn;
+import com.axis.goal.model.dto.BoardResponse;
+import com.axis.goal.model.dto.CustomFieldAnswerResponse;
+import com.axis.goal.model.dto.CustomFieldDefinitionResponse;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.GoalTypeResponse;
+import com.axis.goal.model.dto.PageResponse;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Reflection registrations for the native image that Quarkus cannot derive from the code.
+ * <p>
+ * REST return types are registered for serialization only, but {@code GoalResponseCache} also reads them back from
+ * Smile, and {@code BoardSnapshotCache} serializes the board outside any endpoint signature. Caffeine instantiates
+ * its cache and node classes by name, one pair per combination of builder options, so each combination used here
+ * is listed. MapStruct mappers are plain CDI beans and the Lombok-generated entities are registered by the
+ * Hibernate extension; neither needs anything here.
+ */
+@RegisterForReflection(
+        targets = {
+                PageResponse.class,
+                GoalResponse.class,
+                GoalTypeResponse.class,
+                CustomFieldDefinitionResponse.class,
+                CustomFieldAnswerResponse.class,
+                BoardResponse.class,
+                BoardColumn.class
+        },
+        classNames = {
+                // LocalCache: maximumSize + expireAfterWrite
+                "com.github.benmanes.caffeine.cache.SSMSW",
+                "com.github.benmanes.caffeine.cache.PSWMS",
+                // BoardSnapshotCache: maximumSize + expireAfterAccess + expireAfterWrite
+                "com.github.benmanes.caffeine.cache.SSMSAW",
+                "com.github.benmanes.caffeine.cache.PSAWMS"
+        })
+final class NativeImageRegistrations {
+
+    private NativeImageRegistrations() {
+    }
+}
@@ -0,0 +1,97 @@
+package com.axis.goal.board;
+
+import com.axis.goal.model.dto.BoardColumn;
+import com.axis.goal.model.dto.BoardResponse;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.entity.Goal.GoalStatus;
+import com.axis.goal.sharding.ShardDataSources;
+import com.axis.goal.sharding.ShardRouter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loads the board of a user straight from the user's shard on the primary.
+ * <p>
+ * Uses plain JDBC rather than Hibernate so it can run outside a request: snapshots are rebuilt in the background,
+ * where there is no current user to route a session by. Reading the primary also keeps a rebuild that follows
+ * a write from seeing a lagging replica.
+ */
+@ApplicationScoped
+public class BoardAssembler {
+
+    // Ranks and counts every live goal of the user per type in one pass over idx_goals_board, then keeps the first
+    // rows of each type; types without goals still come back as one row with null goal columns
+    private static final String BOARD_SQL = """
+            WITH ranked AS (
+                SELECT g.id, g.title, g.description, g.goal_type_id, g.status, g.user_id,
+                       g.created_at, g.updated_at, g.version,
+                       row_number() OVER (PARTITION BY g.goal_type_id ORDER BY g.created_at DESC, g.id) AS position,
+                       count(*) OVER (PARTITION BY g.goal_type_id) AS total
+                FROM goals g
+                WHERE g.user_id = ? AND g.deleted_at IS NULL
+            )
+            SELECT t.id AS type_id, t.title AS type_title, t.level_number, COALESCE(r.total, 0) AS total,
+                   r.id, r.title, r.description, r.goal_type_id, r.status, r.user_id,
+                   r.created_at, r.updated_at, r.version
+            FROM goal_types t
+            LEFT JOIN ranked r ON r.goal_type_id = t.id AND r.position <= ?
+            WHERE t.user_id = ? AND t.deleted_at IS NULL
+            ORDER BY t.level_number, r.position
+            """;
+
+    @Inject
+    ShardDataSources shards;
+
+    @Inject
+    ShardRouter router;
+
+    /**
+     * The user's board with at most {@code perColumn} goals in every column, loaded with a single query
+     */
+    public BoardResponse load(UUID userId, int perColumn) throws SQLException {
+        List<BoardColumn> columns = new ArrayList<>();
+        try (Connection connection = shards.get(router.shardFor(userId)).getConnection();
+             PreparedStatement statement = connection.prepareStatement(BOARD_SQL)) {
+            statement.setObject(1, userId);
+            statement.setInt(2, perColumn);
+            statement.setObject(3, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                BoardColumn column = null;
+                while (rs.next()) {
+                    UUID typeId = rs.getObject("type_id", UUID.class);
+                    if (column == null || !column.typeId().equals(typeId)) {
+                        column = new BoardColumn(typeId, rs.getString("type_title"), rs.getInt("level_number"),
+                                rs.getLong("total"), new ArrayList<>());
+                        columns.add(column);
+                    }
+                    if (rs.getObject("id") != null) {
+                        column.goals().add(toGoal(rs));
+                    }
+                }
+            }
+        }
+        return new BoardResponse(columns);
+    }
+
+    static GoalResponse toGoal(ResultSet rs) throws SQLException {
+        return new GoalResponse(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getObject("goal_type_id", UUID.class),
+                GoalStatus.valueOf(rs.getString("status")),
+                rs.getObject("user_id", UUID.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getLong("version"));
+    }
+}
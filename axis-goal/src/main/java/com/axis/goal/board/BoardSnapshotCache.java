@@ -0,0 +1,191 @@
+package com.axis.goal.board;
+
+import com.axis.common.cache.CacheInvalidatedEvent;
+import com.axis.common.cache.InvalidationBus;
+import com.axis.goal.cache.GoalDataChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pre-serialized JSON of the main board, kept per active user.
+ * <p>
+ * A request for a user with a fresh snapshot gets the stored bytes as they are: no query, no entity and no
+ * Jackson work. A miss loads the board once, serializes it and keeps it. When the user's data changes, the
+ * change is published as {@code board:<userId>} on the {@link InvalidationBus}; every replica holding a
+ * snapshot of that user marks it stale and rebuilds it on a virtual thread. Until the rebuild lands, requests
+ * build the board themselves, so users always see their own writes.
+ * <p>
+ * Each entry carries a version bumped by every invalidation. A build stores its bytes only if the version is
+ * still the one it started from, so a slow build can never overwrite a newer change with older data.
+ * Snapshots of users who stop opening the board expire after {@code axis.board.snapshot.idle}.
+ */
+@Slf4j
+@ApplicationScoped
+public class BoardSnapshotCache {
+
+    private static final String KEY_PREFIX = "board:";
+
+    /**
+     * {@code json} is null while the snapshot is stale
+     */
+    private record Snapshot(long version, byte[] json) {
+    }
+
+    @Inject
+    BoardAssembler assembler;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    InvalidationBus invalidationBus;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "axis.board.snapshot.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.board.snapshot.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "axis.board.snapshot.idle", defaultValue = "15m")
+    Duration idle;
+
+    @ConfigProperty(name = "axis.board.snapshot.max-age", defaultValue = "10m")
+    Duration maxAge;
+
+    @ConfigProperty(name = "axis.board.goals-per-column", defaultValue = "10")
+    int perColumn;
+
+    private Cache<UUID, Snapshot> snapshots;
+    private ExecutorService rebuilds;
+    private Counter hits;
+    private Counter misses;
+    private Timer rebuildTimer;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idle)
+                .expireAfterWrite(maxAge)
+                .build();
+        rebuilds = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("axis-board-rebuild-", 0).factory());
+        hits = Counter.builder("axis.board.snapshot").tag("result", "hit")
+                .description("Board requests served from a snapshot")
+                .register(meterRegistry);
+        misses = Counter.builder("axis.board.snapshot").tag("result", "miss")
+                .description("Board requests that had to build the board")
+                .register(meterRegistry);
+        rebuildTimer = Timer.builder("axis.board.snapshot.rebuild")
+                .description("Background rebuilds of board snapshots")
+                .register(meterRegistry);
+        Gauge.builder("axis.board.snapshot.size", snapshots, Cache::estimatedSize)
+                .description("Users with a board snapshot")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        rebuilds.shutdownNow();
+    }
+
+    public int defaultPerColumn() {
+        return perColumn;
+    }
+
+    /**
+     * The board of the user as JSON bytes. Only the default column size is kept as a snapshot; other sizes are
+     * loaded for the request.
+     */
+    public byte[] get(UUID userId, int goalsPerColumn) {
+        if (!enabled || goalsPerColumn != perColumn) {
+            return build(userId, goalsPerColumn);
+        }
+        Snapshot current = snapshots.getIfPresent(userId);
+        if (current != null && current.json() != null) {
+            hits.increment();
+            return current.json();
+        }
+        misses.increment();
+        long version = current == null ? 0 : current.version();
+        byte[] json = build(userId, perColumn);
+        store(userId, version, json);
+        return json;
+    }
+
+    void onDataChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) GoalDataChangedEvent event) {
+        if (enabled) {
+            invalidationBus.publish(KEY_PREFIX + event.userId());
+        }
+    }
+
+    /**
+     * Marks the affected snapshots stale and rebuilds those of active users in the background
+     */
+    void onInvalidated(@Observes CacheInvalidatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.all()) {
+            snapshots.invalidateAll();
+            return;
+        }
+        for (String key : event.keys()) {
+            if (key.startsWith(KEY_PREFIX)) {
+                invalidate(UUID.fromString(key.substring(KEY_PREFIX.length())));
+            }
+        }
+    }
+
+    private void invalidate(UUID userId) {
+        Snapshot previous = snapshots.getIfPresent(userId);
+        // Recorded even without a snapshot, so a build already in flight for this user cannot store older data
+        Snapshot stale = snapshots.asMap().merge(userId, new Snapshot(1, null),
+                (current, ignored) -> new Snapshot(current.version() + 1, null));
+        if (previous != null && previous.json() != null) {
+            long version = stale.version();
+            rebuilds.execute(() -> rebuildTimer.record(() -> {
+                try {
+                    store(userId, version, build(userId, perColumn));
+                } catch (RuntimeException e) {
+                    log.warn("Board snapshot rebuild failed for user {}: {}", userId, e.getMessage());
+                }
+            }));
+        }
+    }
+
+    private void store(UUID userId, long version, byte[] json) {
+        snapshots.asMap().compute(userId, (key, current) -> {
+            long currentVersion = current == null ? 0 : current.version();
+            return currentVersion == version ? new Snapshot(version, json) : current;
+        });
+    }
+
+    private byte[] build(UUID userId, int goalsPerColumn) {
+        try {
+            return objectMapper.writeValueAsBytes(assembler.load(userId, goalsPerColumn));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not build the board of user " + userId, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.axis.goal.cache;
+
+import java.util.UUID;
+
+/**
+ * Fired by the service layer whenever goals, goal types or custom field definitions
+ * of a user are modified. Observers react after the transaction has committed.
+ */
+public record GoalDataChangedEvent(UUID userId) {
+}
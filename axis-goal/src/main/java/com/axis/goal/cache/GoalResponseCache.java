@@ -0,0 +1,201 @@
+package com.axis.goal.cache;
+
+import com.axis.common.cache.CacheInvalidatedEvent;
+import com.axis.common.cache.InvalidationBus;
+import com.axis.common.cache.LocalCache;
+import com.axis.common.datasource.ReplicaUsage;
+import com.axis.goal.model.dto.PageResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.quarkus.arc.Arc;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.value.ValueCommands;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Redis-backed response cache shared by all axis-goal replicas.
+ * <p>
+ * Entries are namespaced by user and by a per-user generation counter. Writes bump the
+ * generation after commit, which makes every cached entry of that user unreachable at once
+ * without scanning keys; the orphaned entries simply expire. Values are stored as Smile
+ * (binary JSON) to keep them compact.
+ * <p>
+ * Redis failures never fail a request: the cache falls back to the loader.
+ * <p>
+ * With {@code axis.cache.local.enabled} a short-lived in-process cache sits in front of Redis. It is grouped by
+ * user and kept coherent across replicas by publishing the user's key on the {@link InvalidationBus}.
+ * <p>
+ * Nothing read from the read replica is stored: a replica read can predate a write made through another replica
+ * of the service, and cached it would outlive the write for the whole TTL. Misses inside {@code @ReadOnly} methods
+ * still load from the replica when it is healthy; once the request has opened a replica session
+ * ({@link ReplicaUsage}) the value is returned without being stored.
+ */
+@Slf4j
+@ApplicationScoped
+public class GoalResponseCache {
+
+    private static final String KEY_PREFIX = "axis-goal:";
+
+    @Inject
+    RedisDataSource redis;
+
+    @ConfigProperty(name = "axis.cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.cache.ttl", defaultValue = "10m")
+    Duration ttl;
+
+    @ConfigProperty(name = "axis.cache.local.enabled", defaultValue = "false")
+    boolean localEnabled;
+
+    @ConfigProperty(name = "axis.cache.local.max-size", defaultValue = "10000")
+    long localMaxSize;
+
+    @ConfigProperty(name = "axis.cache.local.ttl", defaultValue = "30s")
+    Duration localTtl;
+
+    @ConfigProperty(name = "axis.invalidation.enabled", defaultValue = "false")
+    boolean invalidationEnabled;
+
+    @Inject
+    InvalidationBus invalidationBus;
+
+    @Inject
+    ReplicaUsage replicaUsage;
+
+    private LocalCache localCache;
+
+    private ValueCommands<String, byte[]> entries;
+    private ValueCommands<String, Long> generations;
+    private ObjectMapper smileMapper;
+
+    @PostConstruct
+    void init() {
+        if (localEnabled) {
+            localCache = new LocalCache(localMaxSize, localTtl);
+            if (!invalidationEnabled) {
+                log.warn("Local response cache without axis.invalidation.enabled: other replicas' writes show up only after {}", localTtl);
+            }
+        }
+        entries = redis.value(byte[].class);
+        generations = redis.value(Long.class);
+
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        smileMapper = new ObjectMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /**
+     * Returns the cached value for the given user-scoped name, loading and storing it on a miss.
+     */
+    public <T> T get(UUID userId, String name, JavaType type, Supplier<T> loader) {
+        if (localCache != null) {
+            return localCache.get(invalidationKey(userId), name,
+                    () -> getShared(userId, name, type, loader),
+                    () -> !readReplica());
+        }
+        return getShared(userId, name, type, loader);
+    }
+
+    private <T> T getShared(UUID userId, String name, JavaType type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key;
+        try {
+            key = entryKey(userId, name);
+            byte[] cached = entries.get(key);
+            if (cached != null) {
+                return smileMapper.readValue(cached, type);
+            }
+        } catch (Exception e) {
+            log.warn("Response cache read failed for user {}: {}", userId, e.getMessage());
+            return loader.get();
+        }
+
+        T value = loader.get();
+        if (readReplica()) {
+            return value;
+        }
+        try {
+            entries.setex(key, ttl.toSeconds(), smileMapper.writeValueAsBytes(value));
+        } catch (Exception e) {
+            log.warn("Response cache write failed for user {}: {}", userId, e.getMessage());
+        }
+        return value;
+    }
+
+    /**
+     * Invalidates every cached response of the user. Runs only once the writing transaction has committed,
+     * so a concurrent reader cannot re-populate the cache with pre-commit data under the new generation.
+     */
+    void onDataChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) GoalDataChangedEvent event) {
+        if (enabled) {
+            try {
+                generations.incr(generationKey(event.userId()));
+            } catch (Exception e) {
+                log.warn("Response cache invalidation failed for user {}: {}", event.userId(), e.getMessage());
+            }
+        }
+        if (localCache != null) {
+            invalidationBus.publish(invalidationKey(event.userId()));
+        }
+    }
+
+    /**
+     * Evicts local entries invalidated by this or another replica
+     */
+    void onInvalidated(@Observes CacheInvalidatedEvent event) {
+        if (localCache != null) {
+            localCache.invalidate(event);
+        }
+    }
+
+    private boolean readReplica() {
+        return Arc.container().requestContext().isActive() && replicaUsage.isUsed();
+    }
+
+    public JavaType typeOf(Class<?> type) {
+        return smileMapper.getTypeFactory().constructType(type);
+    }
+
+    public JavaType pageOf(Class<?> contentType) {
+        return smileMapper.getTypeFactory().constructParametricType(PageResponse.class, contentType);
+    }
+
+    private static String invalidationKey(UUID userId) {
+        return "goals:" + userId;
+    }
+
+    private String entryKey(UUID userId, String name) {
+        Long generation = generations.get(generationKey(userId));
+        return KEY_PREFIX + userId + ":" + (generation == null ? 0 : generation) + ":" + name;
+    }
+
+    // Generation keys have no TTL: an expiring counter could restart at a value whose entries are still alive
+    private String generationKey(UUID userId) {
+        return KEY_PREFIX + userId + ":gen";
+    }
+}
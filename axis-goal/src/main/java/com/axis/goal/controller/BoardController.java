@@ -0,0 +1,69 @@
+package com.axis.goal.controller;
+
+import com.axis.common.exception.BusinessException;
+import com.axis.common.security.SecurityUtils;
+import com.axis.goal.board.BoardSnapshotCache;
+import com.axis.goal.model.dto.BoardResponse;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.UUID;
+
+@Slf4j
+@Path("/api/board")
+@Produces(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
+@Tag(name = "Board", description = "Main board: goal types with their first goals")
+public class BoardController {
+
+    @Inject
+    BoardSnapshotCache snapshots;
+
+    @Inject
+    SecurityUtils securityUtils;
+
+    @ConfigProperty(name = "axis.board.max-per-column", defaultValue = "50")
+    int maxPerColumn;
+
+    @Operation(
+        summary = "Get the board",
+        description = "Returns every goal type of the authenticated user in level order with its newest perColumn "
+                + "goals and its total goal count, loaded with a single query. The default column size is served "
+                + "from a pre-serialized snapshot that is rebuilt whenever the user's goals change."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Board retrieved successfully",
+                content = @Content(schema = @Schema(implementation = BoardResponse.class))),
+        @APIResponse(responseCode = "400", description = "perColumn out of range"),
+        @APIResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @GET
+    public Response board(
+            @Parameter(description = "Goals per column, defaults to axis.board.goals-per-column")
+            @QueryParam("perColumn") Integer perColumn) {
+        UUID userId = securityUtils.getCurrentUserIdAsUUID()
+                .orElseThrow(() -> new IllegalStateException("User is not authenticated"));
+        int goalsPerColumn = perColumn != null ? perColumn : snapshots.defaultPerColumn();
+        if (goalsPerColumn < 1 || goalsPerColumn > maxPerColumn) {
+            throw new BusinessException("perColumn must be between 1 and " + maxPerColumn, Response.Status.BAD_REQUEST);
+        }
+        log.debug("Getting board with {} goals per column for user: {}", goalsPerColumn, userId);
+        // Already JSON: written as is, without going through Jackson
+        return Response.ok(snapshots.get(userId, goalsPerColumn), MediaType.APPLICATION_JSON_TYPE).build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.axis.goal.controller;
 
+import com.axis.goal.diagnostics.QueryBudget;
 import com.axis.goal.model.dto.CustomFieldAnswerRequest;
 import com.axis.goal.model.dto.CustomFieldAnswerResponse;
 import com.axis.goal.service.CustomFieldAnswerService;
@@ -41,6 +42,7 @@ public class CustomFieldAnswerController {
             @APIResponse(responseCode = "404", description = "Goal or field definition not found"),
             @APIResponse(responseCode = "409", description = "Answer already exists for this field")
     })
+    @QueryBudget(6)
     @POST
     public Response create(
             @Parameter(description = "Goal ID") @PathParam("goalId") UUID goalId,
@@ -59,16 +61,19 @@ public class CustomFieldAnswerController {
             @APIResponse(responseCode = "400", description = "Invalid request data"),
             @APIResponse(responseCode = "401", description = "User not authenticated"),
             @APIResponse(responseCode = "403", description = "User doesn't have permission"),
-            @APIResponse(responseCode = "404", description = "Custom field answer not found")
+            @APIResponse(responseCode = "404", description = "Custom field answer not found"),
+            @APIResponse(responseCode = "412", description = "Answer was modified since the If-Match version")
     })
+    @QueryBudget(5)
     @PUT
     @Path("/{id}")
     public CustomFieldAnswerResponse update(
             @Parameter(description = "Goal ID") @PathParam("goalId") UUID goalId,
             @Parameter(description = "Custom Field Answer ID") @PathParam("id") UUID id,
+            @Parameter(description = "ETag of the version being modified") @HeaderParam(IfMatch.HEADER) String ifMatch,
             @Valid CustomFieldAnswerRequest request) {
         log.debug("Updating custom field answer: {}", id);
-        return answerService.update(id, request);
+        return answerService.update(id, request, IfMatch.expectedVersion(ifMatch));
     }
 
     @Operation(
@@ -80,16 +85,19 @@ public class CustomFieldAnswerController {
             @APIResponse(responseCode = "400", description = "Invalid request data"),
             @APIResponse(responseCode = "401", description = "User not authenticated"),
             @APIResponse(responseCode = "403", description = "User doesn't have permission"),
-            @APIResponse(responseCode = "404", description = "Custom field answer not found")
+            @APIResponse(responseCode = "404", description = "Custom field answer not found"),
+            @APIResponse(responseCode = "412", description = "Answer was modified since the If-Match version")
     })
+    @QueryBudget(5)
     @PATCH
     @Path("/{id}")
     public CustomFieldAnswerResponse patch(
             @Parameter(description = "Goal ID") @PathParam("goalId") UUID goalId,
             @Parameter(description = "Custom Field Answer ID") @PathParam("id") UUID id,
+            @Parameter(description = "ETag of the version being modified") @HeaderParam(IfMatch.HEADER) String ifMatch,
             CustomFieldAnswerRequest request) {
         log.debug("Patching custom field answer: {}", id);
-        return answerService.patch(id, request);
+        return answerService.patch(id, request, IfMatch.expectedVersion(ifMatch));
     }
 
     @Operation(
@@ -102,6 +110,7 @@ public class CustomFieldAnswerController {
             @APIResponse(responseCode = "403", description = "User doesn't have permission"),
             @APIResponse(responseCode = "404", description = "Custom field answer not found")
     })
+    @QueryBudget(5)
     @GET
     @Path("/{id}")
     public CustomFieldAnswerResponse findById(
@@ -120,6 +129,7 @@ public class CustomFieldAnswerController {
             @APIResponse(responseCode = "401", description = "User not authenticated"),
             @APIResponse(responseCode = "404", description = "Goal not found")
     })
+    @QueryBudget(6)
     @GET
     public List<CustomFieldAnswerResponse> findByGoalId(
             @Parameter(description = "Goal ID") @PathParam("goalId") UUID goalId) {
@@ -0,0 +1,27 @@
+package com.axis.goal.controller;
+
+import com.axis.goal.model.dto.Versioned;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.EntityTag;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+/**
+ * Sends the version of single-resource responses as a strong ETag, to be echoed in {@code If-Match}.
+ * Response filters run in descending priority, so the ETag is set before {@code IdempotencyFilter} stores the
+ * response for replay.
+ */
+@ApplicationScoped
+public class ETagFilter {
+
+    @ServerResponseFilter(priority = Priorities.USER + 100)
+    public void addETag(ContainerResponseContext response) {
+        if (response.getEntity() instanceof Versioned versioned
+                && versioned.version() != null
+                && !response.getHeaders().containsKey(HttpHeaders.ETAG)) {
+            response.getHeaders().putSingle(HttpHeaders.ETAG, new EntityTag(versioned.version().toString()));
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.axis.goal.controller;
 
+import com.axis.common.idempotency.Idempotent;
+import com.axis.common.rest.BinaryMediaType;
+import com.axis.goal.diagnostics.QueryBudget;
+import com.axis.goal.model.dto.GoalBatchGetRequest;
+import com.axis.goal.model.dto.GoalBatchGetResult;
 import com.axis.goal.model.dto.GoalRequest;
 import com.axis.goal.model.dto.GoalResponse;
 import com.axis.goal.model.dto.PageResponse;
 import com.axis.goal.model.entity.Goal.GoalStatus;
 import com.axis.goal.service.GoalService;
+import io.quarkus.arc.profile.UnlessBuildProfile;
 import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -18,6 +24,7 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -25,6 +32,7 @@ import java.util.UUID;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @RunOnVirtualThread
+@UnlessBuildProfile("reactive")
 @Tag(name = "Goals", description = "Goal management API for creating, tracking, and organizing life goals")
 public class GoalController {
 
@@ -40,6 +48,8 @@ public class GoalController {
         @APIResponse(responseCode = "400", description = "Invalid request data"),
         @APIResponse(responseCode = "401", description = "User not authenticated")
     })
+    @QueryBudget(12)
+    @Idempotent
     @POST
     public Response create(@Valid GoalRequest request) {
         log.debug("Creating new goal");
@@ -53,50 +63,80 @@ public class GoalController {
     )
     @APIResponses(value = {
             @APIResponse(responseCode = "200", description = "Goal successfully patched"),
-            @APIResponse(responseCode = "404", description = "Goal not found")
+            @APIResponse(responseCode = "404", description = "Goal not found"),
+            @APIResponse(responseCode = "412", description = "Goal was modified since the If-Match version")
     })
+    @QueryBudget(10)
     @PATCH
     @Path("/{id}")
     public GoalResponse patch(
             @Parameter(description = "Goal ID") @PathParam("id") UUID id,
+            @Parameter(description = "ETag of the version being modified") @HeaderParam(IfMatch.HEADER) String ifMatch,
             @Valid GoalRequest request) {
         log.debug("Patching goal: {}", id);
-        return goalService.patch(id, request);
+        return goalService.patch(id, request, IfMatch.expectedVersion(ifMatch));
     }
 
     @Operation(
         summary = "Get goal by ID",
-        description = "Retrieves a specific goal by its ID. Only the owner can view their goals."
+        description = "Retrieves a specific goal by its ID. Only the owner can view their goals. "
+                + "Finished goals moved to the archive are only found with archived=true."
     )
     @APIResponses(value = {
         @APIResponse(responseCode = "200", description = "Goal retrieved successfully"),
         @APIResponse(responseCode = "401", description = "User not authenticated"),
         @APIResponse(responseCode = "404", description = "Goal not found")
     })
+    @QueryBudget(5)
     @GET
     @Path("/{id}")
     public GoalResponse findById(
-            @Parameter(description = "Goal ID") @PathParam("id") UUID id) {
-        log.debug("Finding goal: {}", id);
-        return goalService.findById(id);
+            @Parameter(description = "Goal ID") @PathParam("id") UUID id,
+            @Parameter(description = "Look the goal up in the archive") @QueryParam("archived") @DefaultValue("false") boolean archived) {
+        log.debug("Finding goal: {} (archived: {})", id, archived);
+        return archived ? goalService.findArchivedById(id) : goalService.findById(id);
+    }
+
+    @Operation(
+        summary = "Get several goals by ID",
+        description = "Retrieves up to 100 goals of the authenticated user with one query. Results follow the order "
+                + "of the requested IDs; IDs that are missing or belong to another user come back with found=false."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Goals retrieved"),
+        @APIResponse(responseCode = "400", description = "No IDs, or more than 100"),
+        @APIResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @QueryBudget(3)
+    @POST
+    @Path("/batch-get")
+    public List<GoalBatchGetResult> batchGet(@Valid GoalBatchGetRequest request) {
+        log.debug("Batch get of {} goals", request.ids().size());
+        return goalService.findByIds(request.ids());
     }
 
     @Operation(
         summary = "Get all goals",
-        description = "Retrieves all goals for the authenticated user with pagination"
+        description = "Retrieves all goals for the authenticated user with pagination. "
+                + "With archived=true, retrieves the finished goals moved to the archive instead."
     )
     @APIResponses(value = {
         @APIResponse(responseCode = "200", description = "Goals retrieved successfully"),
         @APIResponse(responseCode = "401", description = "User not authenticated")
     })
+    @QueryBudget(12)
     @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
     public PageResponse<GoalResponse> findAll(
             @QueryParam("page") @DefaultValue("0") int page,
             @QueryParam("size") @DefaultValue("20") int size,
             @QueryParam("sortBy") @DefaultValue("createdAt") String sortBy,
-            @QueryParam("sortDirection") @DefaultValue("desc") String sortDirection) {
-        log.debug("Finding all goals");
-        return goalService.findAll(page, size, sortBy, sortDirection);
+            @QueryParam("sortDirection") @DefaultValue("desc") String sortDirection,
+            @Parameter(description = "List archived goals") @QueryParam("archived") @DefaultValue("false") boolean archived) {
+        log.debug("Finding all goals (archived: {})", archived);
+        return archived
+                ? goalService.findArchived(page, size, sortBy, sortDirection)
+                : goalService.findAll(page, size, sortBy, sortDirection);
     }
 
     @Operation(
@@ -107,7 +147,9 @@ public class GoalController {
         @APIResponse(responseCode = "200", description = "Goals retrieved successfully"),
         @APIResponse(responseCode = "401", description = "User not authenticated")
     })
+    @QueryBudget(12)
     @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
     @Path("/status/{status}")
     public PageResponse<GoalResponse> findByStatus(
             @Parameter(description = "Goal status") @PathParam("status") GoalStatus status,
@@ -127,7 +169,9 @@ public class GoalController {
         @APIResponse(responseCode = "200", description = "Goals retrieved successfully"),
         @APIResponse(responseCode = "401", description = "User not authenticated")
     })
+    @QueryBudget(12)
     @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
     @Path("/type/{typeId}")
     public PageResponse<GoalResponse> findByTypeId(
             @Parameter(description = "Goal type ID") @PathParam("typeId") UUID typeId,
@@ -139,6 +183,26 @@ public class GoalController {
         return goalService.findByTypeId(typeId, page, size, sortBy, sortDirection);
     }
 
+    @Operation(
+        summary = "Clone a goal subtree",
+        description = "Copies the goal with all its descendants and their custom field answers under the same parent. "
+                + "The copy is made by a single statement, whatever the size of the subtree."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "201", description = "Subtree cloned, returns the copied root goal"),
+        @APIResponse(responseCode = "401", description = "User not authenticated"),
+        @APIResponse(responseCode = "404", description = "Goal not found")
+    })
+    @QueryBudget(4)
+    @POST
+    @Path("/{id}/clone")
+    public Response cloneSubtree(
+            @Parameter(description = "Goal ID") @PathParam("id") UUID id) {
+        log.debug("Cloning goal subtree: {}", id);
+        GoalResponse response = goalService.cloneSubtree(id);
+        return Response.status(Response.Status.CREATED).entity(response).build();
+    }
+
     @Operation(
         summary = "Delete a goal",
         description = "Deletes a goal. Only the owner can delete their goals."
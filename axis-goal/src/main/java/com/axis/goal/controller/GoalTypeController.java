@@ -52,13 +52,17 @@ public class GoalTypeController {
     )
     @APIResponses(value = {
             @APIResponse(responseCode = "200", description = "Goal type successfully patched"),
-            @APIResponse(responseCode = "404", description = "Goal type not found")
+            @APIResponse(responseCode = "404", description = "Goal type not found"),
+            @APIResponse(responseCode = "412", description = "Goal type was modified since the If-Match version")
     })
     @PATCH
     @Path("/{id}")
-    public GoalTypeResponse patch(@Parameter(description = "Goal type ID") @PathParam("id") UUID id, GoalTypeRequest request) {
+    public GoalTypeResponse patch(
+            @Parameter(description = "Goal type ID") @PathParam("id") UUID id,
+            @Parameter(description = "ETag of the version being modified") @HeaderParam(IfMatch.HEADER) String ifMatch,
+            GoalTypeRequest request) {
         log.debug("Patching goal type: {}", id);
-        return goalTypeService.patch(id, request);
+        return goalTypeService.patch(id, request, IfMatch.expectedVersion(ifMatch));
     }
 
     @Operation(
@@ -87,6 +91,28 @@ public class GoalTypeController {
         return goalTypeService.findAll(page, size, sortBy, sortDirection);
     }
 
+    @Operation(
+            summary = "Clone goal type",
+            description = "Copies the goal type and its custom fields as a new last level. With includeGoals, the goals "
+                    + "of the type are copied too, with their subtrees and answers."
+    )
+    @APIResponses(value = {
+            @APIResponse(responseCode = "201", description = "Goal type successfully cloned"),
+            @APIResponse(responseCode = "404", description = "Goal type not found")
+    })
+    @POST
+    @Path("/{id}/clone")
+    public Response clone(
+            @Parameter(description = "Goal type ID") @PathParam("id") UUID id,
+            @Parameter(description = "Title of the copy, defaults to the original title with a (copy) suffix")
+            @QueryParam("title") String title,
+            @Parameter(description = "Copy the goals of the type as well")
+            @QueryParam("includeGoals") @DefaultValue("false") boolean includeGoals) {
+        log.debug("Cloning goal type: {} (includeGoals={})", id, includeGoals);
+        GoalTypeResponse response = goalTypeService.clone(id, title, includeGoals);
+        return Response.status(Response.Status.CREATED).entity(response).build();
+    }
+
     @Operation(
             summary = "Delete goal type",
             description = "Deletes the goal type configuration. Warning: this will delete all related goals!"
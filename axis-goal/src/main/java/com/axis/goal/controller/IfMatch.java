@@ -0,0 +1,36 @@
+package com.axis.goal.controller;
+
+import com.axis.common.exception.BusinessException;
+
+/**
+ * Parses the {@code If-Match} header of update requests into the expected entity version.
+ * ETags are the quoted version number written by {@link ETagFilter}.
+ */
+final class IfMatch {
+
+    static final String HEADER = "If-Match";
+
+    private IfMatch() {
+    }
+
+    /**
+     * @return the expected version, or null when the header is absent or {@code *}
+     */
+    static Long expectedVersion(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("If-Match must be a single ETag returned by this API");
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.axis.goal.controller;
+
+import com.axis.common.idempotency.Idempotent;
+import com.axis.common.rest.BinaryMediaType;
+import com.axis.goal.model.dto.GoalBatchGetRequest;
+import com.axis.goal.model.dto.GoalBatchGetResult;
+import com.axis.goal.model.dto.GoalRequest;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.PageResponse;
+import com.axis.goal.model.entity.Goal.GoalStatus;
+import com.axis.goal.service.GoalService;
+import com.axis.goal.service.ReactiveGoalService;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link GoalController} of the {@code reactive} build. Endpoints return the {@link Uni} of
+ * {@link ReactiveGoalService} and run on the event loop, except create: {@code IdempotencyFilter} keeps its
+ * records through JDBC, so create stays on a virtual thread and goes through the blocking {@link GoalService}.
+ * <p>
+ * The reactive client's statements are not seen by {@code RequestQueryTracker}, so there are no {@code @QueryBudget}s.
+ */
+@Slf4j
+@Path("/api/goals")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@IfBuildProfile("reactive")
+@Tag(name = "Goals", description = "Goal management API for creating, tracking, and organizing life goals")
+public class ReactiveGoalController {
+
+    @Inject
+    ReactiveGoalService goalService;
+
+    @Inject
+    GoalService blockingGoalService;
+
+    @Operation(
+        summary = "Create a new goal",
+        description = "Creates a new goal for the authenticated user"
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "201", description = "Goal created successfully"),
+        @APIResponse(responseCode = "400", description = "Invalid request data"),
+        @APIResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @Idempotent
+    @RunOnVirtualThread
+    @POST
+    public Response create(@Valid GoalRequest request) {
+        log.debug("Creating new goal");
+        GoalResponse response = blockingGoalService.create(request);
+        return Response.status(Response.Status.CREATED).entity(response).build();
+    }
+
+    @Operation(
+            summary = "Partially update goal",
+            description = "Updates only the provided fields (partial update - null fields are ignored)"
+    )
+    @APIResponses(value = {
+            @APIResponse(responseCode = "200", description = "Goal successfully patched"),
+            @APIResponse(responseCode = "404", description = "Goal not found"),
+            @APIResponse(responseCode = "412", description = "Goal was modified since the If-Match version")
+    })
+    @PATCH
+    @Path("/{id}")
+    public Uni<GoalResponse> patch(
+            @Parameter(description = "Goal ID") @PathParam("id") UUID id,
+            @Parameter(description = "ETag of the version being modified") @HeaderParam(IfMatch.HEADER) String ifMatch,
+            @Valid GoalRequest request) {
+        log.debug("Patching goal: {}", id);
+        return goalService.patch(id, request, IfMatch.expectedVersion(ifMatch));
+    }
+
+    @Operation(
+        summary = "Get goal by ID",
+        description = "Retrieves a specific goal by its ID. Only the owner can view their goals. "
+                + "Finished goals moved to the archive are only found with archived=true."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Goal retrieved successfully"),
+        @APIResponse(responseCode = "401", description = "User not authenticated"),
+        @APIResponse(responseCode = "404", description = "Goal not found")
+    })
+    @GET
+    @Path("/{id}")
+    public Uni<GoalResponse> findById(
+            @Parameter(description = "Goal ID") @PathParam("id") UUID id,
+            @Parameter(description = "Look the goal up in the archive") @QueryParam("archived") @DefaultValue("false") boolean archived) {
+        log.debug("Finding goal: {} (archived: {})", id, archived);
+        return archived ? goalService.findArchivedById(id) : goalService.findById(id);
+    }
+
+    @Operation(
+        summary = "Get several goals by ID",
+        description = "Retrieves up to 100 goals of the authenticated user with one query. Results follow the order "
+                + "of the requested IDs; IDs that are missing or belong to another user come back with found=false."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Goals retrieved"),
+        @APIResponse(responseCode = "400", description = "No IDs, or more than 100"),
+        @APIResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @POST
+    @Path("/batch-get")
+    public Uni<List<GoalBatchGetResult>> batchGet(@Valid GoalBatchGetRequest request) {
+        log.debug("Batch get of {} goals", request.ids().size());
+        return goalService.findByIds(request.ids());
+    }
+
+    @Operation(
+        summary = "Get all goals",
+        description = "Retrieves all goals for the authenticated user with pagination. "
+                + "With archived=true, retrieves the finished goals moved to the archive instead."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Goals retrieved successfully"),
+        @APIResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
+    public Uni<PageResponse<GoalResponse>> findAll(
+            @QueryParam("page") @DefaultValue("0") int page,
+            @QueryParam("size") @DefaultValue("20") int size,
+            @QueryParam("sortBy") @DefaultValue("createdAt") String sortBy,
+            @QueryParam("sortDirection") @DefaultValue("desc") String sortDirection,
+            @Parameter(description = "List archived goals") @QueryParam("archived") @DefaultValue("false") boolean archived) {
+        log.debug("Finding all goals (archived: {})", archived);
+        return archived
+                ? goalService.findArchived(page, size, sortBy, sortDirection)
+                : goalService.findAll(page, size, sortBy, sortDirection);
+    }
+
+    @Operation(
+        summary = "Get goals by status",
+        description = "Retrieves goals filtered by status for the authenticated user"
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Goals retrieved successfully"),
+        @APIResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
+    @Path("/status/{status}")
+    public Uni<PageResponse<GoalResponse>> findByStatus(
+            @Parameter(description = "Goal status") @PathParam("status") GoalStatus status,
+            @QueryParam("page") @DefaultValue("0") int page,
+            @QueryParam("size") @DefaultValue("20") int size,
+            @QueryParam("sortBy") @DefaultValue("createdAt") String sortBy,
+            @QueryParam("sortDirection") @DefaultValue("desc") String sortDirection) {
+        log.debug("Finding goals with status: {}", status);
+        return goalService.findByStatus(status, page, size, sortBy, sortDirection);
+    }
+
+    @Operation(
+        summary = "Get goals by type ID",
+        description = "Retrieves goals filtered by goal type ID for the authenticated user"
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Goals retrieved successfully"),
+        @APIResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
+    @Path("/type/{typeId}")
+    public Uni<PageResponse<GoalResponse>> findByTypeId(
+            @Parameter(description = "Goal type ID") @PathParam("typeId") UUID typeId,
+            @QueryParam("page") @DefaultValue("0") int page,
+            @QueryParam("size") @DefaultValue("20") int size,
+            @QueryParam("sortBy") @DefaultValue("createdAt") String sortBy,
+            @QueryParam("sortDirection") @DefaultValue("desc") String sortDirection) {
+        log.debug("Finding goals with type ID: {}", typeId);
+        return goalService.findByTypeId(typeId, page, size, sortBy, sortDirection);
+    }
+
+    @Operation(
+        summary = "Clone a goal subtree",
+        description = "Copies the goal with all its descendants and their custom field answers under the same parent. "
+                + "The copy is made by a single statement, whatever the size of the subtree."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "201", description = "Subtree cloned, returns the copied root goal"),
+        @APIResponse(responseCode = "401", description = "User not authenticated"),
+        @APIResponse(responseCode = "404", description = "Goal not found")
+    })
+    @POST
+    @Path("/{id}/clone")
+    public Uni<Response> cloneSubtree(
+            @Parameter(description = "Goal ID") @PathParam("id") UUID id) {
+        log.debug("Cloning goal subtree: {}", id);
+        return goalService.cloneSubtree(id)
+                .map(response -> Response.status(Response.Status.CREATED).entity(response).build());
+    }
+
+    @Operation(
+        summary = "Delete a goal",
+        description = "Deletes a goal. Only the owner can delete their goals."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "204", description = "Goal deleted successfully"),
+        @APIResponse(responseCode = "401", description = "User not authenticated"),
+        @APIResponse(responseCode = "404", description = "Goal not found")
+    })
+    @DELETE
+    @Path("/{id}")
+    public Uni<Response> delete(
+            @Parameter(description = "Goal ID") @PathParam("id") UUID id) {
+        log.debug("Deleting goal: {}", id);
+        return goalService.delete(id).map(ignored -> Response.noContent().build());
+    }
+}
@@ -0,0 +1,140 @@
+package com.axis.goal.controller;
+
+import com.axis.common.exception.BusinessException;
+import com.axis.goal.sharding.ShardRebalancer;
+import com.axis.goal.sharding.ShardRebalancer.MoveResult;
+import com.axis.goal.sharding.ShardRouter;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Path("/api/admin/shards")
+@Produces(MediaType.APPLICATION_JSON)
+@RolesAllowed("admin")
+@RunOnVirtualThread
+@Tag(name = "Admin - Shards", description = "User placement across goal database shards")
+public class ShardAdminController {
+
+    @Inject
+    ShardRouter router;
+
+    @Inject
+    ShardRebalancer rebalancer;
+
+    @Operation(
+        summary = "Shard status",
+        description = "Shows the shards on the hash ring and the size of the shard directory"
+    )
+    @GET
+    public Map<String, Object> status() {
+        Map<UUID, ShardRouter.Assignment> directory = router.directory();
+        return Map.of(
+                "enabled", router.isEnabled(),
+                "shards", router.ring().shards(),
+                "directoryEntries", directory.size(),
+                "moving", directory.values().stream().filter(assignment -> assignment.movingTo() != null).count());
+    }
+
+    @Operation(
+        summary = "Locate a user",
+        description = "Shows the shard holding the user's goals and whether the directory overrides the hash ring"
+    )
+    @GET
+    @Path("/users/{userId}")
+    public Map<String, Object> user(@Parameter(description = "User ID") @PathParam("userId") UUID userId) {
+        ShardRouter.Assignment assignment = router.directory().get(userId);
+        Map<String, Object> result = new HashMap<>();
+        result.put("userId", userId);
+        result.put("shard", router.shardFor(userId));
+        result.put("ringShard", router.ring().shardFor(userId));
+        result.put("movingTo", assignment != null ? assignment.movingTo() : null);
+        return result;
+    }
+
+    @Operation(
+        summary = "Move a user to another shard",
+        description = "Copies the user's goal data to the target shard and switches the directory. The user's writes "
+                + "are rejected with 503 while the move runs; reads keep working."
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "User moved, or already on the target shard"),
+        @APIResponse(responseCode = "400", description = "Unknown shard"),
+        @APIResponse(responseCode = "403", description = "Caller is not an admin"),
+        @APIResponse(responseCode = "409", description = "Sharding is disabled or the user is already being moved")
+    })
+    @POST
+    @Path("/users/{userId}/move")
+    public MoveResult move(
+            @Parameter(description = "User ID") @PathParam("userId") UUID userId,
+            @Parameter(description = "Target shard") @QueryParam("to") String target) {
+        if (target == null || target.isBlank()) {
+            throw new BusinessException("Query parameter 'to' is required", Response.Status.BAD_REQUEST);
+        }
+        log.info("Shard move requested: user={}, to={}", userId, target);
+        return rebalancer.move(userId, target);
+    }
+
+    @Operation(
+        summary = "Pin users ahead of a shard list change",
+        description = "Pins every user that the candidate shard list would place on another shard to the shard it is "
+                + "on now, so the new list can be deployed without moving data"
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Number of pinned users"),
+        @APIResponse(responseCode = "400", description = "No candidate shards"),
+        @APIResponse(responseCode = "403", description = "Caller is not an admin"),
+        @APIResponse(responseCode = "409", description = "Sharding is disabled")
+    })
+    @POST
+    @Path("/pins")
+    public Map<String, Object> pin(
+            @Parameter(description = "Comma-separated shard list about to be deployed") @QueryParam("shards") String shards) {
+        List<String> candidate = shards == null ? List.of() : Arrays.stream(shards.split(","))
+                .map(String::trim)
+                .filter(shard -> !shard.isEmpty())
+                .toList();
+        if (candidate.isEmpty()) {
+            throw new BusinessException("Query parameter 'shards' is required", Response.Status.BAD_REQUEST);
+        }
+        return Map.of("pinned", rebalancer.pin(candidate), "shards", candidate);
+    }
+
+    @Operation(
+        summary = "Move pinned users to their ring shard",
+        description = "Moves up to 'limit' users whose directory entry differs from their place on the current ring, "
+                + "one at a time"
+    )
+    @APIResponses(value = {
+        @APIResponse(responseCode = "200", description = "Completed moves"),
+        @APIResponse(responseCode = "403", description = "Caller is not an admin"),
+        @APIResponse(responseCode = "409", description = "Sharding is disabled")
+    })
+    @POST
+    @Path("/rebalance")
+    public List<MoveResult> rebalance(
+            @Parameter(description = "Maximum users to move") @QueryParam("limit") @DefaultValue("10") int limit) {
+        return rebalancer.rebalance(limit);
+    }
+}
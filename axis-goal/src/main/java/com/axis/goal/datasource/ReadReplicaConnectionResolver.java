@@ -0,0 +1,42 @@
+package com.axis.goal.datasource;
+
+import com.axis.common.datasource.ReplicaConnectionResolver;
+import com.axis.goal.sharding.ShardDataSources;
+import com.axis.goal.sharding.ShardRouter;
+import com.axis.goal.sharding.ShardWriteFence;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusConnectionProvider;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps the tenant ids produced by {@link ReadReplicaTenantResolver} to the replica pool or a shard's pool. With
+ * sharding enabled, shard connections pass through the {@link ShardWriteFence}.
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class ReadReplicaConnectionResolver extends ReplicaConnectionResolver {
+
+    @Inject
+    ShardDataSources shards;
+
+    @Inject
+    ShardRouter shardRouter;
+
+    @Inject
+    ShardWriteFence writeFence;
+
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+    @Override
+    protected ConnectionProvider primary(String tenantId) {
+        return providers.computeIfAbsent(tenantId, shard -> {
+            ConnectionProvider provider = new QuarkusConnectionProvider(shards.get(shard));
+            return shardRouter.isEnabled() ? writeFence.fenced(provider) : provider;
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.axis.goal.datasource;
+
+import com.axis.common.datasource.DataSourceRouting;
+import com.axis.common.datasource.ReplicaConnectionResolver;
+import com.axis.common.datasource.ReplicaLagMonitor;
+import com.axis.common.datasource.ReplicaUsage;
+import com.axis.common.security.SecurityUtils;
+import com.axis.goal.sharding.ShardDataSources;
+import com.axis.goal.sharding.ShardRouter;
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Chooses the datasource for every new Hibernate session.
+ * <p>
+ * With sharding enabled, the session goes to the current user's shard ({@link ShardRouter}), so a transaction
+ * never spans shards; writes of a user who is being moved between shards are rejected. On the primary shard,
+ * sessions opened by {@code @ReadOnly} service methods go to the replica while it is healthy.
+ * Transactional sessions always use the primary and, once their transaction commits, mark the user as a recent
+ * writer, keeping the user's reads on the primary for the sticky window. That window is per pod; {@code GoalResponseCache} does not
+ * rely on it and never stores what a request read from the replica ({@link ReplicaUsage}).
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class ReadReplicaTenantResolver implements TenantResolver {
+
+    public static final String PRIMARY = ShardDataSources.PRIMARY;
+    public static final String REPLICA = ReplicaConnectionResolver.REPLICA;
+
+    @Inject
+    ReplicaLagMonitor lagMonitor;
+
+    @Inject
+    SecurityUtils securityUtils;
+
+    @Inject
+    TransactionSynchronizationRegistry transactions;
+
+    @Inject
+    ShardRouter shardRouter;
+
+    @Inject
+    ReplicaUsage replicaUsage;
+
+    @ConfigProperty(name = "axis.datasource.replica.sticky-window", defaultValue = "5s")
+    Duration stickyWindow;
+
+    @Override
+    public String getDefaultTenantId() {
+        return PRIMARY;
+    }
+
+    @Override
+    public String resolveTenantId() {
+        Optional<UUID> userId = currentUserId();
+        String shard = userId.map(shardRouter::shardFor).orElse(PRIMARY);
+
+        if (transactions.getTransactionKey() != null) {
+            userId.ifPresent(id -> {
+                shardRouter.checkWritable(id);
+                DataSourceRouting.recordWriteOnCommit(transactions, id);
+            });
+            return shard;
+        }
+        if (!PRIMARY.equals(shard)) {
+            return shard;
+        }
+
+        boolean recentWriter = userId.map(id -> DataSourceRouting.wroteWithin(id, stickyWindow)).orElse(false);
+        if (DataSourceRouting.isReadOnly() && !recentWriter && lagMonitor.isReplicaUsable()) {
+            if (Arc.container().requestContext().isActive()) {
+                replicaUsage.markUsed();
+            }
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    private Optional<UUID> currentUserId() {
+        try {
+            return securityUtils.getCurrentUserIdAsUUID();
+        } catch (RuntimeException e) {
+            // No request context (scheduled jobs, startup)
+            return Optional.empty();
+        }
+    }
+}
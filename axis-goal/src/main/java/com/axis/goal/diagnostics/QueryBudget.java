@@ -0,0 +1,19 @@
+package com.axis.goal.diagnostics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements an endpoint may prepare per request.
+ * Exceeding it is logged and counted; with {@code axis.query-budget.report=true} (dev and test) the response also
+ * carries {@code X-Query-Budget-Exceeded} and the violation is recorded by {@link QueryBudgetFilter}, so tests catch
+ * regressions such as N+1 lazy loading without the status of the request changing.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface QueryBudget {
+
+    int value();
+}
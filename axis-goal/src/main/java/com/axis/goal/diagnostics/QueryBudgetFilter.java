@@ -0,0 +1,138 @@
+package com.axis.goal.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Checks the statements of each request once the resource method has returned:
+ * records a per-endpoint query-count histogram, warns about statements repeated within the request
+ * (the N+1 signature) and enforces {@link QueryBudget}.
+ * <p>
+ * The response is never failed: by the time this filter runs the transaction has committed, and turning a
+ * successful write into an error makes clients retry it. With {@code axis.query-budget.report=true} (dev and test)
+ * a request over budget gets an {@value #EXCEEDED_HEADER} header and is kept as a {@link Violation}, so tests can
+ * call {@link #assertNoViolations()}.
+ */
+@Slf4j
+@ApplicationScoped
+public class QueryBudgetFilter {
+
+    public static final String EXCEEDED_HEADER = "X-Query-Budget-Exceeded";
+
+    @Inject
+    RequestQueryTracker tracker;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "axis.query-tracker.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.query-tracker.repeat-threshold", defaultValue = "5")
+    int repeatThreshold;
+
+    @ConfigProperty(name = "axis.query-budget.report", defaultValue = "false")
+    boolean report;
+
+    private final Map<Method, EndpointMeters> meters = new ConcurrentHashMap<>();
+    private final List<Violation> violations = new CopyOnWriteArrayList<>();
+
+    @ServerResponseFilter
+    public void checkQueries(ContainerResponseContext response, ResourceInfo resourceInfo) {
+        Method method = resourceInfo.getResourceMethod();
+        if (!enabled || method == null) {
+            return;
+        }
+
+        EndpointMeters endpointMeters = meters.computeIfAbsent(method, m -> register(resourceInfo.getResourceClass(), m));
+        int total = tracker.total();
+        endpointMeters.statements.record(total);
+
+        Map<String, Integer> repeated = tracker.repeated(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            endpointMeters.repeated.increment();
+            repeated.forEach((sql, count) ->
+                    log.warn("Possible N+1 in {}: statement prepared {} times: {}", endpointMeters.endpoint, count, sql));
+        }
+
+        QueryBudget budget = budgetOf(resourceInfo);
+        if (budget != null && total > budget.value()) {
+            endpointMeters.budgetExceeded.increment();
+            log.warn("Query budget exceeded in {}: {} statements, budget {}", endpointMeters.endpoint, total, budget.value());
+            if (report) {
+                violations.add(new Violation(endpointMeters.endpoint, total, budget.value()));
+                response.getHeaders().putSingle(EXCEEDED_HEADER, total + "/" + budget.value());
+            }
+        }
+    }
+
+    public List<Violation> violations() {
+        return List.copyOf(violations);
+    }
+
+    public void clearViolations() {
+        violations.clear();
+    }
+
+    /**
+     * Fails when any request has exceeded its {@link QueryBudget} since the last {@link #clearViolations()}
+     */
+    public void assertNoViolations() {
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Query budget exceeded:\n" + String.join("\n",
+                    violations.stream().map(Violation::toString).toList()));
+        }
+    }
+
+    private static QueryBudget budgetOf(ResourceInfo resourceInfo) {
+        QueryBudget budget = resourceInfo.getResourceMethod().getAnnotation(QueryBudget.class);
+        return budget != null ? budget : resourceInfo.getResourceClass().getAnnotation(QueryBudget.class);
+    }
+
+    private EndpointMeters register(Class<?> resourceClass, Method method) {
+        String endpoint = resourceClass.getSimpleName() + "." + method.getName();
+        return new EndpointMeters(
+                endpoint,
+                DistributionSummary.builder("axis.http.jdbc.statements")
+                        .description("SQL statements prepared per HTTP request")
+                        .tag("endpoint", endpoint)
+                        .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                        .register(registry),
+                Counter.builder("axis.http.jdbc.repeated")
+                        .description("Requests that prepared the same statement repeatedly")
+                        .tag("endpoint", endpoint)
+                        .register(registry),
+                Counter.builder("axis.http.query-budget.exceeded")
+                        .description("Requests that exceeded their @QueryBudget")
+                        .tag("endpoint", endpoint)
+                        .register(registry));
+    }
+
+    /**
+     * A request to {@code endpoint} that prepared {@code statements} statements against a budget of {@code budget}
+     */
+    public record Violation(String endpoint, int statements, int budget) {
+
+        @Override
+        public String toString() {
+            return endpoint + ": " + statements + " statements, budget " + budget;
+        }
+    }
+
+    private record EndpointMeters(String endpoint, DistributionSummary statements, Counter repeated, Counter budgetExceeded) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.axis.goal.diagnostics;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Feeds every statement Hibernate prepares during an HTTP request into {@link RequestQueryTracker}.
+ * Statements outside a request (scheduled jobs, startup) are not tracked.
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Inject
+    RequestQueryTracker tracker;
+
+    @ConfigProperty(name = "axis.query-tracker.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Override
+    public String inspect(String sql) {
+        if (enabled && Arc.container().requestContext().isActive()) {
+            tracker.record(sql);
+        }
+        return sql;
+    }
+}
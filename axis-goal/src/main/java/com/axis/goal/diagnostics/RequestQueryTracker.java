@@ -0,0 +1,39 @@
+package com.axis.goal.diagnostics;
+
+import jakarta.enterprise.context.RequestScoped;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statements prepared during the current HTTP request, keyed by their text.
+ * Hibernate renders parameters as {@code ?}, so the same lazy load repeated for different rows has identical text.
+ */
+@RequestScoped
+public class RequestQueryTracker {
+
+    private final Map<String, Integer> statements = new HashMap<>();
+    private int total;
+
+    void record(String sql) {
+        statements.merge(sql, 1, Integer::sum);
+        total++;
+    }
+
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Statements prepared at least {@code threshold} times, most frequent first
+     */
+    public Map<String, Integer> repeated(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statements.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+}
@@ -4,6 +4,7 @@ import com.axis.common.dto.ApiError;
 import com.axis.common.exception.BusinessException;
 import com.axis.common.exception.ResourceNotFoundException;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.ws.rs.core.Response;
@@ -70,6 +71,18 @@ public class ExceptionMappers {
         return Response.status(400).entity(error).build();
     }
 
+    @ServerExceptionMapper
+    public Response mapOptimisticLock(OptimisticLockException ex) {
+        log.warn("Optimistic lock conflict: {}", ex.getMessage());
+        ApiError error = ApiError.builder()
+            .timestamp(LocalDateTime.now())
+            .status(412)
+            .error("Precondition Failed")
+            .message("The resource was modified concurrently, reload it and retry")
+            .build();
+        return Response.status(412).entity(error).build();
+    }
+
     @ServerExceptionMapper
     public Response mapGenericException(Exception ex) {
         log.error("Unexpected error", ex);
@@ -0,0 +1,110 @@
+package com.axis.goal.graphql;
+
+import com.axis.common.exception.BusinessException;
+import com.axis.goal.model.dto.CustomFieldAnswerResponse;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.GoalTypeResponse;
+import com.axis.goal.model.entity.Goal.GoalStatus;
+import com.axis.goal.service.GoalService;
+import com.axis.goal.service.GoalTypeService;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.graphql.DefaultValue;
+import org.eclipse.microprofile.graphql.Description;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Id;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only GraphQL view of the goal graph: goal → type → custom fields, goal → answers and goal → subgoals.
+ * <p>
+ * Root queries go through the regular services, so they share the response cache with the REST endpoints.
+ * Nested fields are resolved in batches by {@link GoalGraphLoader}. Query depth and complexity are capped by
+ * {@code smallrye.graphql.query.depth} and {@code smallrye.graphql.query.complexity}, page sizes by
+ * {@code axis.graphql.max-page-size}.
+ */
+@Slf4j
+@GraphQLApi
+@RunOnVirtualThread
+public class GoalGraphApi {
+
+    @Inject
+    GoalService goalService;
+
+    @Inject
+    GoalTypeService goalTypeService;
+
+    @Inject
+    GoalGraphLoader loader;
+
+    @ConfigProperty(name = "axis.graphql.max-page-size", defaultValue = "100")
+    int maxPageSize;
+
+    @Query
+    @Description("Goals of the current user, optionally filtered by status or type")
+    public List<GoalResponse> goals(
+            @Name("status") GoalStatus status,
+            @Name("typeId") @Id UUID typeId,
+            @Name("page") @DefaultValue("0") int page,
+            @Name("size") @DefaultValue("20") int size) {
+        int pageSize = pageSize(page, size);
+        log.debug("GraphQL goals: status={}, typeId={}, page={}, size={}", status, typeId, page, pageSize);
+        if (status != null) {
+            return goalService.findByStatus(status, page, pageSize, null, null).content();
+        }
+        if (typeId != null) {
+            return goalService.findByTypeId(typeId, page, pageSize, null, null).content();
+        }
+        return goalService.findAll(page, pageSize, null, null).content();
+    }
+
+    @Query
+    @Description("A goal of the current user by ID")
+    public GoalResponse goal(@Name("id") @Id UUID id) {
+        return goalService.findById(id);
+    }
+
+    @Query
+    @Description("Goal types (levels) of the current user")
+    public List<GoalTypeResponse> goalTypes(
+            @Name("page") @DefaultValue("0") int page,
+            @Name("size") @DefaultValue("20") int size) {
+        return goalTypeService.findAll(page, pageSize(page, size), null, "asc").content();
+    }
+
+    /**
+     * Rejects pages that {@code Page.of} cannot build and caps the size at {@code axis.graphql.max-page-size}
+     */
+    private int pageSize(int page, int size) {
+        if (page < 0) {
+            throw new BusinessException("page must not be negative", Response.Status.BAD_REQUEST);
+        }
+        if (size < 1) {
+            throw new BusinessException("size must be at least 1", Response.Status.BAD_REQUEST);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    @Description("Type of the goal, with its custom field definitions")
+    public List<GoalTypeResponse> type(@Source List<GoalResponse> goals) {
+        return loader.types(goals);
+    }
+
+    @Description("Custom field answers of the goal")
+    public List<List<CustomFieldAnswerResponse>> answers(@Source List<GoalResponse> goals) {
+        return loader.answers(goals);
+    }
+
+    @Description("Direct subgoals of the goal")
+    public List<List<GoalResponse>> subGoals(@Source List<GoalResponse> goals) {
+        return loader.subGoals(goals);
+    }
+}
@@ -0,0 +1,104 @@
+package com.axis.goal.graphql;
+
+import com.axis.common.datasource.ReadOnly;
+import com.axis.common.security.SecurityUtils;
+import com.axis.goal.mapper.CustomFieldAnswerMapper;
+import com.axis.goal.mapper.GoalMapper;
+import com.axis.goal.mapper.GoalTypeMapper;
+import com.axis.goal.model.dto.CustomFieldAnswerResponse;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.GoalTypeResponse;
+import com.axis.goal.repository.CustomFieldAnswerRepository;
+import com.axis.goal.repository.GoalRepository;
+import com.axis.goal.repository.GoalTypeRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch loaders behind the nested fields of the goal graph.
+ * <p>
+ * Each method receives every parent resolved at one level of the query and loads the children of all of them
+ * with a single query, returning the results in the order of the parents. A query selecting goals, their types,
+ * answers and two levels of subgoals therefore costs one statement per entity kind and level, not per goal.
+ */
+@Slf4j
+@ApplicationScoped
+@ReadOnly
+public class GoalGraphLoader {
+
+    @Inject
+    GoalRepository goalRepository;
+
+    @Inject
+    GoalTypeRepository goalTypeRepository;
+
+    @Inject
+    CustomFieldAnswerRepository answerRepository;
+
+    @Inject
+    GoalMapper goalMapper;
+
+    @Inject
+    GoalTypeMapper goalTypeMapper;
+
+    @Inject
+    CustomFieldAnswerMapper answerMapper;
+
+    @Inject
+    SecurityUtils securityUtils;
+
+    /**
+     * Types of the given goals, with their custom field definitions
+     */
+    public List<GoalTypeResponse> types(List<GoalResponse> goals) {
+        Set<UUID> typeIds = goals.stream().map(GoalResponse::typeId).collect(Collectors.toSet());
+        Map<UUID, GoalTypeResponse> byId = goalTypeRepository.findByIdsAndUserIdWithFields(typeIds, getCurrentUserId())
+                .stream()
+                .map(goalTypeMapper::toResponse)
+                .collect(Collectors.toMap(GoalTypeResponse::id, Function.identity()));
+        log.debug("Loaded {} goal types for {} goals", byId.size(), goals.size());
+        return goals.stream().map(goal -> byId.get(goal.typeId())).toList();
+    }
+
+    /**
+     * Custom field answers of the given goals
+     */
+    public List<List<CustomFieldAnswerResponse>> answers(List<GoalResponse> goals) {
+        Map<UUID, List<CustomFieldAnswerResponse>> byGoal = answerRepository
+                .findByGoalIdsAndUserId(ids(goals), getCurrentUserId())
+                .stream()
+                .collect(Collectors.groupingBy(answer -> answer.getGoal().getId(),
+                        Collectors.mapping(answerMapper::toResponse, Collectors.toList())));
+        return goals.stream().map(goal -> byGoal.getOrDefault(goal.id(), List.of())).toList();
+    }
+
+    /**
+     * Direct children of the given goals, oldest first
+     */
+    public List<List<GoalResponse>> subGoals(List<GoalResponse> goals) {
+        Map<UUID, List<GoalResponse>> byParent = goalRepository
+                .findByParentIdsAndUserId(ids(goals), getCurrentUserId())
+                .stream()
+                .collect(Collectors.groupingBy(child -> child.getParent().getId(),
+                        Collectors.mapping(goalMapper::toResponse, Collectors.toList())));
+        log.debug("Loaded subgoals of {} goals", goals.size());
+        return goals.stream().map(goal -> byParent.getOrDefault(goal.id(), List.of())).toList();
+    }
+
+    private static Set<UUID> ids(List<GoalResponse> goals) {
+        return goals.stream().map(GoalResponse::id).collect(Collectors.toSet());
+    }
+
+    private UUID getCurrentUserId() {
+        return securityUtils.getCurrentUserIdAsUUID()
+                .orElseThrow(() -> new IllegalStateException("User is not authenticated"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.axis.goal.grpc;
+
+import com.axis.goal.grpc.proto.GoalLookup;
+import com.axis.goal.grpc.proto.GoalLookupRequest;
+import com.axis.goal.grpc.proto.GoalLookupResponse;
+import com.axis.goal.grpc.proto.GoalSummary;
+import com.axis.goal.grpc.proto.OwnershipRequest;
+import com.axis.goal.grpc.proto.OwnershipResponse;
+import io.grpc.Status;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.grpc.RegisterInterceptor;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Internal gRPC API for service-to-service goal lookups.
+ * <p>
+ * Runs on the separate gRPC server ({@code quarkus.grpc.server.port}). There is no user token: callers authenticate
+ * with the shared service token ({@link ServiceTokenInterceptor}), and a NetworkPolicy admits only axis-notification
+ * and axis-media to the port. Every call is capped at {@code axis.grpc.lookup.max-ids} ids and runs on a virtual
+ * thread.
+ */
+@Slf4j
+@GrpcService
+@RegisterInterceptor(ServiceTokenInterceptor.class)
+public class GoalLookupGrpcService implements GoalLookup {
+
+    @Inject
+    GoalLookupStore store;
+
+    @ConfigProperty(name = "axis.grpc.lookup.max-ids", defaultValue = "1000")
+    int maxIds;
+
+    @ConfigProperty(name = "axis.grpc.lookup.stream-chunk", defaultValue = "500")
+    int streamChunk;
+
+    @Override
+    @RunOnVirtualThread
+    public Uni<GoalLookupResponse> getGoals(GoalLookupRequest request) {
+        checkSize(request.getIdsCount());
+        List<UUID> ids = parseIds(request.getIdsList());
+        Map<UUID, GoalSummary> found = find(ids);
+        GoalLookupResponse.Builder response = GoalLookupResponse.newBuilder();
+        for (UUID id : ids) {
+            GoalSummary summary = found.get(id);
+            response.addGoals(summary != null ? summary : GoalSummary.newBuilder().setId(id.toString()).build());
+        }
+        return Uni.createFrom().item(response.build());
+    }
+
+    @Override
+    @RunOnVirtualThread
+    public Multi<GoalSummary> streamGoals(GoalLookupRequest request) {
+        checkSize(request.getIdsCount());
+        List<UUID> ids = parseIds(request.getIdsList());
+        return Multi.createFrom().emitter(emitter -> {
+            for (int from = 0; from < ids.size() && !emitter.isCancelled(); from += streamChunk) {
+                find(ids.subList(from, Math.min(from + streamChunk, ids.size()))).values().forEach(emitter::emit);
+            }
+            emitter.complete();
+        });
+    }
+
+    @Override
+    @RunOnVirtualThread
+    public Uni<OwnershipResponse> checkOwnership(OwnershipRequest request) {
+        checkSize(request.getGoalIdsCount());
+        UUID userId = parseId(request.getUserId());
+        try {
+            List<UUID> owned = store.owned(userId, parseIds(request.getGoalIdsList()));
+            return Uni.createFrom().item(OwnershipResponse.newBuilder()
+                    .addAllOwnedGoalIds(owned.stream().map(UUID::toString).toList())
+                    .build());
+        } catch (SQLException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private void checkSize(int count) {
+        if (count > maxIds) {
+            throw Status.INVALID_ARGUMENT.withDescription("At most " + maxIds + " ids per call").asRuntimeException();
+        }
+    }
+
+    private Map<UUID, GoalSummary> find(List<UUID> ids) {
+        try {
+            return store.find(ids);
+        } catch (SQLException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private static RuntimeException unavailable(SQLException e) {
+        log.warn("Goal lookup failed: {}", e.getMessage());
+        return Status.UNAVAILABLE.withDescription("Goal lookup failed").withCause(e).asRuntimeException();
+    }
+
+    private static List<UUID> parseIds(List<String> ids) {
+        return ids.stream().map(GoalLookupGrpcService::parseId).toList();
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw Status.INVALID_ARGUMENT.withDescription("Invalid id: " + id).asRuntimeException();
+        }
+    }
+}
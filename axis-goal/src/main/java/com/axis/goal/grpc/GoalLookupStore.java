@@ -0,0 +1,117 @@
+package com.axis.goal.grpc;
+
+import com.axis.goal.grpc.proto.GoalSummary;
+import com.axis.goal.sharding.ShardDataSources;
+import com.axis.goal.sharding.ShardRouter;
+import io.agroal.api.AgroalDataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Goal lookups by id for other services, outside any user context.
+ * <p>
+ * The caller does not know the owners, so ids are looked up on every shard with one {@code = ANY(?)} query per
+ * shard, stopping as soon as all are found. Without the user id the lookup cannot be pruned to one partition
+ * when goals are partitioned; it probes the primary key index of each partition instead. Ownership checks know
+ * the user and go to the user's shard only.
+ */
+@Slf4j
+@ApplicationScoped
+public class GoalLookupStore {
+
+    private static final String FIND_SQL = """
+            SELECT g.id, g.title, g.status, g.goal_type_id, t.title AS type_title, g.user_id, g.updated_at
+            FROM goals g
+            JOIN goal_types t ON t.id = g.goal_type_id
+            WHERE g.id = ANY(?) AND g.deleted_at IS NULL
+            """;
+
+    private static final String OWNED_SQL =
+            "SELECT id FROM goals WHERE user_id = ? AND id = ANY(?) AND deleted_at IS NULL";
+
+    @Inject
+    ShardDataSources shards;
+
+    @Inject
+    ShardRouter router;
+
+    /**
+     * Summaries of the goals found among {@code ids}, keyed by id
+     */
+    public Map<UUID, GoalSummary> find(Collection<UUID> ids) throws SQLException {
+        Set<UUID> missing = new LinkedHashSet<>(ids);
+        Map<UUID, GoalSummary> found = new HashMap<>();
+        for (Map.Entry<String, AgroalDataSource> shard : shards.all().entrySet()) {
+            if (missing.isEmpty()) {
+                break;
+            }
+            try (Connection connection = shard.getValue().getConnection();
+                 PreparedStatement statement = connection.prepareStatement(FIND_SQL)) {
+                statement.setArray(1, uuidArray(connection, missing));
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        GoalSummary summary = toSummary(rs);
+                        UUID id = rs.getObject("id", UUID.class);
+                        found.put(id, summary);
+                        missing.remove(id);
+                    }
+                }
+            }
+        }
+        log.debug("Looked up {} goals, {} not found", ids.size(), missing.size());
+        return found;
+    }
+
+    /**
+     * The goals among {@code goalIds} that belong to the user
+     */
+    public List<UUID> owned(UUID userId, Collection<UUID> goalIds) throws SQLException {
+        List<UUID> owned = new ArrayList<>();
+        try (Connection connection = shards.get(router.shardFor(userId)).getConnection();
+             PreparedStatement statement = connection.prepareStatement(OWNED_SQL)) {
+            statement.setObject(1, userId);
+            statement.setArray(2, uuidArray(connection, goalIds));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    owned.add(rs.getObject(1, UUID.class));
+                }
+            }
+        }
+        return owned;
+    }
+
+    private static Array uuidArray(Connection connection, Collection<UUID> ids) throws SQLException {
+        return connection.createArrayOf("uuid", ids.toArray());
+    }
+
+    private static GoalSummary toSummary(ResultSet rs) throws SQLException {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return GoalSummary.newBuilder()
+                .setId(rs.getString("id"))
+                .setFound(true)
+                .setTitle(rs.getString("title"))
+                .setStatus(rs.getString("status"))
+                .setTypeId(rs.getString("goal_type_id"))
+                .setTypeTitle(rs.getString("type_title"))
+                .setUserId(rs.getString("user_id"))
+                .setUpdatedAt(updatedAt == null ? 0 : updatedAt.toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.axis.goal.grpc;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+/**
+ * Admits only callers presenting the shared service token as {@code authorization: Bearer <token>}.
+ * <p>
+ * The token is {@code axis.grpc.lookup.token}, injected into the calling services from the same secret. Without a
+ * configured token every call is rejected, so a missing secret never leaves the lookups open.
+ */
+@Slf4j
+@ApplicationScoped
+public class ServiceTokenInterceptor implements ServerInterceptor {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER = "Bearer ";
+
+    @ConfigProperty(name = "axis.grpc.lookup.token")
+    Optional<String> token;
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        if (token.isEmpty() || token.get().isBlank()) {
+            log.warn("Rejected {}: axis.grpc.lookup.token is not configured", call.getMethodDescriptor().getFullMethodName());
+            return reject(call, "Service token is not configured");
+        }
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER) || !matches(authorization.substring(BEARER.length()))) {
+            return reject(call, "Missing or invalid service token");
+        }
+        return next.startCall(call, headers);
+    }
+
+    private boolean matches(String presented) {
+        return MessageDigest.isEqual(presented.getBytes(StandardCharsets.UTF_8),
+                token.get().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <Q, R> ServerCall.Listener<Q> reject(ServerCall<Q, R> call, String description) {
+        call.close(Status.UNAUTHENTICATED.withDescription(description), new Metadata());
+        return new ServerCall.Listener<>() {
+        };
+    }
+}
@@ -0,0 +1,157 @@
+package com.axis.goal.maintenance;
+
+import com.axis.goal.cache.GoalDataChangedEvent;
+import com.axis.goal.sharding.ShardDataSources;
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moves finished goals out of the hot tables into {@code goal_archive}.
+ * <p>
+ * COMPLETED and CANCELLED goals last updated more than {@code axis.archive.age} ago are moved in batches of at
+ * most {@code axis.archive.batch-size}, with their answers folded into one compressed JSONB document per goal.
+ * Each batch is a single statement that deletes the goals (their answers cascade) and inserts them into the
+ * archive, so a goal is never in both places. Only goals without remaining children move: a finished subtree
+ * leaves bottom-up over consecutive batches, and a finished parent of active goals stays hot. Rows are claimed
+ * with {@code SKIP LOCKED}, so replicas share the work. Archived goals are read with {@code archived=true}.
+ */
+@Slf4j
+@ApplicationScoped
+public class GoalArchiver {
+
+    private static final String ARCHIVE_SQL = """
+            WITH moved AS (
+                DELETE FROM goals g WHERE g.id IN (
+                    SELECT c.id FROM goals c
+                    WHERE c.status IN ('COMPLETED', 'CANCELLED')
+                      AND c.deleted_at IS NULL
+                      AND c.updated_at < ?
+                      AND NOT EXISTS (SELECT 1 FROM goals k WHERE k.parent_id = c.id)
+                    ORDER BY c.updated_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING g.id, g.user_id, g.goal_type_id, g.parent_id, g.title, g.description, g.status,
+                          g.created_at, g.updated_at, g.version
+            )
+            INSERT INTO goal_archive (id, user_id, goal_type_id, parent_id, title, description, status,
+                                      created_at, updated_at, version, answers)
+            SELECT m.id, m.user_id, m.goal_type_id, m.parent_id, m.title, m.description, m.status,
+                   m.created_at, m.updated_at, m.version,
+                   (SELECT jsonb_agg(jsonb_build_object(
+                               'id', a.id, 'fieldDefinitionId', a.field_definition_id, 'value', a.field_value))
+                    FROM custom_field_answers a WHERE a.goal_id = m.id AND a.user_id = m.user_id)
+            FROM moved m
+            RETURNING user_id
+            """;
+
+    @Inject
+    ShardDataSources shards;
+
+    @Inject
+    Event<GoalDataChangedEvent> dataChanged;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "axis.archive.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.archive.age", defaultValue = "90d")
+    Duration age;
+
+    @ConfigProperty(name = "axis.archive.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "axis.archive.max-batches", defaultValue = "20")
+    int maxBatchesPerRun;
+
+    private Counter archived;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void init() {
+        archived = Counter.builder("axis.archive.goals")
+                .description("Finished goals moved to goal_archive")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("axis.archive.batch")
+                .description("Duration of one archival batch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(every = "${axis.archive.interval:1m}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(age);
+        for (Map.Entry<String, AgroalDataSource> shard : shards.all().entrySet()) {
+            Set<UUID> users = new HashSet<>();
+            try {
+                long moved = 0;
+                for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                    int count = archiveBatch(shard.getValue(), cutoff, users);
+                    moved += count;
+                    if (count < batchSize) {
+                        break;
+                    }
+                }
+                if (moved > 0) {
+                    log.info("Archived {} finished goals of {} users on shard {}", moved, users.size(), shard.getKey());
+                }
+            } catch (SQLException e) {
+                log.warn("Goal archival failed on shard {}: {}", shard.getKey(), e.getMessage());
+            }
+            // Cached lists of these users still contain the moved goals
+            users.forEach(userId -> dataChanged.fire(new GoalDataChangedEvent(userId)));
+        }
+    }
+
+    /**
+     * Moves one batch of goals finished before {@code cutoff}, in its own transaction
+     *
+     * @return the number of archived goals
+     */
+    public int archiveBatch(AgroalDataSource dataSource, LocalDateTime cutoff, Set<UUID> users) throws SQLException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(ARCHIVE_SQL)) {
+            connection.setAutoCommit(true);
+            statement.setObject(1, cutoff);
+            statement.setInt(2, batchSize);
+            int count = 0;
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    users.add(rs.getObject(1, UUID.class));
+                    count++;
+                }
+            }
+            archived.increment(count);
+            return count;
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+}
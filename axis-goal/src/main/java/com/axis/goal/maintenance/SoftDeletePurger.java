@@ -0,0 +1,176 @@
+package com.axis.goal.maintenance;
+
+import com.axis.goal.sharding.ShardDataSources;
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Physically removes soft-deleted goals and goal types in bounded batches.
+ * <p>
+ * Deletes only mark rows ({@code deleted_at}), so request latency does not depend on the size of the subtree.
+ * This worker then removes, each in its own short transaction of at most {@code axis.purge.batch-size} rows:
+ * answers of deleted goals, deleted goals without remaining children (leaves first, so no cascade runs), and
+ * deleted goal types without remaining goals (their few field definitions cascade). Rows are claimed with
+ * {@code SKIP LOCKED}, so replicas share the work. With sharding, every shard is purged in turn.
+ */
+@Slf4j
+@ApplicationScoped
+public class SoftDeletePurger {
+
+    private static final String PURGE_ANSWERS_SQL = """
+            DELETE FROM custom_field_answers WHERE id IN (
+                SELECT a.id FROM custom_field_answers a
+                JOIN goals g ON g.id = a.goal_id
+                WHERE g.deleted_at IS NOT NULL
+                LIMIT ?
+                FOR UPDATE OF a SKIP LOCKED
+            )
+            """;
+    private static final String PURGE_GOALS_SQL = """
+            DELETE FROM goals WHERE id IN (
+                SELECT g.id FROM goals g
+                WHERE g.deleted_at IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM goals c WHERE c.parent_id = g.id)
+                  AND NOT EXISTS (SELECT 1 FROM custom_field_answers a WHERE a.goal_id = g.id)
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+    private static final String PURGE_TYPES_SQL = """
+            DELETE FROM goal_types WHERE id IN (
+                SELECT t.id FROM goal_types t
+                WHERE t.deleted_at IS NOT NULL
+                  AND NOT EXISTS (SELECT 1 FROM goals g WHERE g.goal_type_id = t.id)
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+    private static final String BACKLOG_SQL = """
+            SELECT (SELECT count(*) FROM goals WHERE deleted_at IS NOT NULL)
+                 + (SELECT count(*) FROM goal_types WHERE deleted_at IS NOT NULL)
+            """;
+
+    @Inject
+    ShardDataSources shards;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "axis.purge.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.purge.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "axis.purge.max-batches", defaultValue = "20")
+    int maxBatchesPerRun;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private Counter answersPurged;
+    private Counter goalsPurged;
+    private Counter typesPurged;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void init() {
+        answersPurged = purgedCounter("custom_field_answers");
+        goalsPurged = purgedCounter("goals");
+        typesPurged = purgedCounter("goal_types");
+        batchTimer = Timer.builder("axis.purge.batch")
+                .description("Duration of one purge batch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("axis.purge.backlog", backlog, AtomicLong::get)
+                .description("Soft-deleted goals and goal types waiting to be purged")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(every = "${axis.purge.interval:10s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void purge() {
+        if (!enabled) {
+            return;
+        }
+        long pending = 0;
+        for (Map.Entry<String, AgroalDataSource> shard : shards.all().entrySet()) {
+            try {
+                long purged = 0;
+                for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                    long removed = purgeBatch(shard.getValue());
+                    purged += removed;
+                    if (removed == 0) {
+                        break;
+                    }
+                }
+                long remaining = countBacklog(shard.getValue());
+                pending += remaining;
+                if (purged > 0) {
+                    log.info("Purged {} soft-deleted rows on shard {}, {} goals and goal types still pending",
+                            purged, shard.getKey(), remaining);
+                }
+            } catch (SQLException e) {
+                log.warn("Soft-delete purge failed on shard {}: {}", shard.getKey(), e.getMessage());
+            }
+        }
+        backlog.set(pending);
+    }
+
+    /**
+     * Runs one bounded delete per table of the given shard, each in its own transaction
+     *
+     * @return the number of removed rows
+     */
+    public long purgeBatch(AgroalDataSource dataSource) throws SQLException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            long answers = delete(connection, PURGE_ANSWERS_SQL, answersPurged);
+            long goals = delete(connection, PURGE_GOALS_SQL, goalsPurged);
+            long types = delete(connection, PURGE_TYPES_SQL, typesPurged);
+            return answers + goals + types;
+        } finally {
+            sample.stop(batchTimer);
+        }
+    }
+
+    private long delete(Connection connection, String sql, Counter counter) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, batchSize);
+            int removed = statement.executeUpdate();
+            counter.increment(removed);
+            return removed;
+        }
+    }
+
+    private long countBacklog(AgroalDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(BACKLOG_SQL)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private Counter purgedCounter(String table) {
+        return Counter.builder("axis.purge.rows")
+                .description("Soft-deleted rows physically removed")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
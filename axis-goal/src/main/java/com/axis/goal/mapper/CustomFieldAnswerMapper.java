@@ -26,8 +26,10 @@ public interface CustomFieldAnswerMapper {
      * Note: fieldDefinition and goal will be set separately in the service layer
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "fieldDefinition", ignore = true)
     @Mapping(target = "goal", ignore = true)
+    @Mapping(target = "userId", ignore = true)
     CustomFieldAnswer toEntity(CustomFieldAnswerRequest request);
 
     /**
@@ -35,8 +37,10 @@ public interface CustomFieldAnswerMapper {
      * Note: Preserves id, fieldDefinition, and goal
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "fieldDefinition", ignore = true)
     @Mapping(target = "goal", ignore = true)
+    @Mapping(target = "userId", ignore = true)
     void updateEntity(CustomFieldAnswerRequest request, @MappingTarget CustomFieldAnswer answer);
 
     /**
@@ -45,8 +49,10 @@ public interface CustomFieldAnswerMapper {
      * Note: Preserves id, fieldDefinition, and goal. fieldDefinitionId from request is not mapped.
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "fieldDefinition", ignore = true)
     @Mapping(target = "goal", ignore = true)
+    @Mapping(target = "userId", ignore = true)
     @Mapping(target = "value", nullValuePropertyMappingStrategy = IGNORE)
     void patchEntity(CustomFieldAnswerRequest request, @MappingTarget CustomFieldAnswer answer);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.axis.goal.mapper;
 
 import com.axis.goal.model.dto.GoalRequest;
 import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.entity.ArchivedGoal;
 import com.axis.goal.model.entity.Goal;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -18,11 +19,18 @@ public interface GoalMapper {
     @Mapping(target = "typeId", source = "type.id")
     GoalResponse toResponse(Goal goal);
 
+    /**
+     * Convert an archived goal to GoalResponse DTO
+     */
+    GoalResponse toResponse(ArchivedGoal goal);
+
     /**
      * Convert GoalRequest DTO to Goal entity
      * Note: userId and type will be set separately by the service layer
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "type", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
@@ -37,6 +45,8 @@ public interface GoalMapper {
      * parent and subGoals are managed through separate endpoints
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "type", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
@@ -50,6 +60,8 @@ public interface GoalMapper {
      * Only non-null fields in the request will be updated
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "type", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
@@ -25,6 +25,8 @@ public interface GoalTypeMapper {
      * Ignore technical fields set in service or database
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "levelNumber", ignore = true)
     @Mapping(target = "goals", ignore = true)
@@ -35,6 +37,8 @@ public interface GoalTypeMapper {
      * Updates existing GoalType entity from Request DTO (PUT - full update)
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "levelNumber", ignore = true)
     @Mapping(target = "goals", ignore = true)
@@ -46,6 +50,8 @@ public interface GoalTypeMapper {
      * Only non-null fields in the request will be updated
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "levelNumber", ignore = true)
     @Mapping(target = "goals", ignore = true)
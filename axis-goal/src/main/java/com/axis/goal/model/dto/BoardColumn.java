@@ -0,0 +1,27 @@
+package com.axis.goal.model.dto;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "One board column: a goal type with its first goals")
+public record BoardColumn(
+
+    @Schema(description = "ID of the goal type")
+    UUID typeId,
+
+    @Schema(description = "Title of the goal type")
+    String title,
+
+    @Schema(description = "Hierarchy level number")
+    Integer levelNumber,
+
+    @Schema(description = "Number of goals of the type, including those not in this column")
+    long total,
+
+    @Schema(description = "First perColumn goals of the type, newest first")
+    List<GoalResponse> goals
+
+) {
+}
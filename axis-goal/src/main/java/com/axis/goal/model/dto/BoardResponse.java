@@ -0,0 +1,14 @@
+package com.axis.goal.model.dto;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Main board: every goal type of the user, in level order, with its first goals")
+public record BoardResponse(
+
+    @Schema(description = "Board columns in level order")
+    List<BoardColumn> columns
+
+) {
+}
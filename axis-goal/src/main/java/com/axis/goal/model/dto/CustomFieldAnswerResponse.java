@@ -20,5 +20,8 @@ public record CustomFieldAnswerResponse(
         CustomFieldType fieldType,
 
         @Schema(description = "Value provided for the field")
-        String value
-) {}
\ No newline at end of file
+        String value,
+
+        @Schema(description = "Version for optimistic concurrency, also sent as the ETag")
+        Long version
+) implements Versioned {}
\ No newline at end of file
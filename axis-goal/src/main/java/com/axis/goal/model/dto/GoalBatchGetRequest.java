@@ -0,0 +1,20 @@
+package com.axis.goal.model.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Request DTO for fetching several goals by ID")
+public record GoalBatchGetRequest(
+
+    @Schema(description = "IDs of the goals to fetch; results follow this order")
+    @NotEmpty(message = "At least one goal ID is required")
+    @Size(max = 100, message = "At most 100 goal IDs per request")
+    List<@NotNull(message = "Goal ID must not be null") UUID> ids
+
+) {
+}
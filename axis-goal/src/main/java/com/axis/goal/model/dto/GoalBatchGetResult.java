@@ -0,0 +1,23 @@
+package com.axis.goal.model.dto;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "One entry of a batch get: the goal, or a not-found marker")
+public record GoalBatchGetResult(
+
+    @Schema(description = "Requested goal ID")
+    UUID id,
+
+    @Schema(description = "Whether the goal exists and belongs to the user")
+    boolean found,
+
+    @Schema(description = "The goal, null when not found")
+    GoalResponse goal
+
+) {
+    public static GoalBatchGetResult of(UUID id, GoalResponse goal) {
+        return new GoalBatchGetResult(id, goal != null, goal);
+    }
+}
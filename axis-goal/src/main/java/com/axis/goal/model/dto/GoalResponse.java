@@ -32,7 +32,10 @@ public record GoalResponse(
     LocalDateTime createdAt,
 
     @Schema(description = "Timestamp when the goal was last updated")
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
 
-) {
+    @Schema(description = "Version for optimistic concurrency, also sent as the ETag")
+    Long version
+
+) implements Versioned {
 }
\ No newline at end of file
@@ -21,7 +21,10 @@ public record GoalTypeResponse(
         List<CustomFieldDefinitionResponse> customFields,
 
         @Schema(description = "ID of the user who owns this configuration")
-        UUID userId
+        UUID userId,
 
-) {
+        @Schema(description = "Version for optimistic concurrency, also sent as the ETag")
+        Long version
+
+) implements Versioned {
 }
@@ -0,0 +1,10 @@
+package com.axis.goal.model.dto;
+
+/**
+ * Response of a resource with optimistic locking. The version is sent as the {@code ETag} header and
+ * expected back in {@code If-Match} on updates.
+ */
+public interface Versioned {
+
+    Long version();
+}
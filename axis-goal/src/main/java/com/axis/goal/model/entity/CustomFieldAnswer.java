@@ -30,4 +30,12 @@ public class CustomFieldAnswer {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "goal_id", nullable = false)
     private Goal goal;
+
+    // Copy of the goal's owner: the partition key when the goal tables are partitioned (see V7)
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
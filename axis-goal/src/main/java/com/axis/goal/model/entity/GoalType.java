@@ -5,15 +5,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "goal_types", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"user_id", "level_number"})
-})
+// (user_id, level_number) is unique among non-deleted types only, see the partial index in V5
+@Table(name = "goal_types")
+@SQLRestriction("deleted_at IS NULL")
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,6 +35,13 @@ public class GoalType {
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "goalType", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<CustomFieldDefinition> customFields = new ArrayList<>();
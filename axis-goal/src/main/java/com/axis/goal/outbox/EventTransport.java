@@ -0,0 +1,18 @@
+package com.axis.goal.outbox;
+
+import java.util.List;
+
+/**
+ * Publishes relayed outbox messages to the broker. Implementations are {@code @Named} and selected with
+ * {@code axis.outbox.transport}.
+ */
+public interface EventTransport {
+
+    /**
+     * Publishes a batch and returns only once the broker has confirmed every message.
+     *
+     * @throws EventTransportException if any message was rejected or not confirmed in time; the relay then
+     *                                 retries the whole batch
+     */
+    void publish(List<OutboxMessage> messages);
+}
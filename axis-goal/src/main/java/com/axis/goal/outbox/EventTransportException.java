@@ -0,0 +1,12 @@
+package com.axis.goal.outbox;
+
+public class EventTransportException extends RuntimeException {
+
+    public EventTransportException(String message) {
+        super(message);
+    }
+
+    public EventTransportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,58 @@
+package com.axis.goal.outbox;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the broker, used in dev and test. Keeps the most recent messages in memory so tests can
+ * assert what was published, and can be told to reject the next batches to exercise the relay's retries.
+ */
+@Slf4j
+@ApplicationScoped
+@Named("memory")
+public class InMemoryEventTransport implements EventTransport {
+
+    private static final int MAX_RETAINED = 10_000;
+
+    private final List<OutboxMessage> published = new ArrayList<>();
+    private final AtomicInteger failingBatches = new AtomicInteger();
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        if (failingBatches.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new EventTransportException("Simulated broker rejection of " + messages.size() + " messages");
+        }
+        synchronized (published) {
+            published.addAll(messages);
+            if (published.size() > MAX_RETAINED) {
+                published.subList(0, published.size() - MAX_RETAINED).clear();
+            }
+        }
+        messages.forEach(message -> log.debug("Published {} {} ({})",
+                message.eventType().routingKey(), message.aggregateId(), message.messageId()));
+    }
+
+    public List<OutboxMessage> published() {
+        synchronized (published) {
+            return List.copyOf(published);
+        }
+    }
+
+    public void clear() {
+        synchronized (published) {
+            published.clear();
+        }
+    }
+
+    /**
+     * Makes the next {@code batches} publish calls fail as if the broker had nacked them
+     */
+    public void failNextBatches(int batches) {
+        failingBatches.set(batches);
+    }
+}
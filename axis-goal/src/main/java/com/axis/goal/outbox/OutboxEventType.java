@@ -0,0 +1,24 @@
+package com.axis.goal.outbox;
+
+/**
+ * Domain events published by axis-goal. The routing key is used on the {@code axis.goal.events} topic exchange,
+ * so consumers can bind e.g. {@code goal.*} or {@code *.deleted}.
+ */
+public enum OutboxEventType {
+    GOAL_CREATED("goal.created"),
+    GOAL_UPDATED("goal.updated"),
+    GOAL_DELETED("goal.deleted"),
+    GOAL_TYPE_CREATED("goal-type.created"),
+    GOAL_TYPE_UPDATED("goal-type.updated"),
+    GOAL_TYPE_DELETED("goal-type.deleted");
+
+    private final String routingKey;
+
+    OutboxEventType(String routingKey) {
+        this.routingKey = routingKey;
+    }
+
+    public String routingKey() {
+        return routingKey;
+    }
+}
@@ -0,0 +1,22 @@
+package com.axis.goal.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An outbox row claimed by the relay. The row id doubles as the message id, which consumers use to drop the
+ * duplicates at-least-once delivery can produce.
+ */
+public record OutboxMessage(
+        long id,
+        OutboxEventType eventType,
+        UUID aggregateId,
+        UUID userId,
+        String payload,
+        Instant createdAt
+) {
+
+    public String messageId() {
+        return "axis-goal-" + id;
+    }
+}
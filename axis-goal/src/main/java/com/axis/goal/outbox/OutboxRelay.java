@@ -0,0 +1,196 @@
+package com.axis.goal.outbox;
+
+import com.axis.goal.sharding.ShardDataSources;
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publishes committed outbox rows.
+ * <p>
+ * Each batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so every replica can run the relay without two of
+ * them publishing the same rows. The row locks are held while the batch is published; confirmed rows are deleted
+ * in the same transaction, rejected rows get an exponential backoff. A crash between the broker's confirm and the
+ * commit republishes the batch, so delivery is at-least-once and consumers dedupe on the message id. Rows of
+ * different batches may be published out of order across replicas. With sharding, every shard's outbox is
+ * drained in turn.
+ */
+@Slf4j
+@ApplicationScoped
+public class OutboxRelay {
+
+    private static final String CLAIM_SQL = """
+            SELECT id, event_type, aggregate_id, user_id, payload::text AS payload, created_at
+            FROM outbox_events
+            WHERE next_attempt_at <= now()
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ANY(?)";
+    private static final String BACKOFF_SQL = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1,
+                next_attempt_at = now() + LEAST(interval '1 second' * power(2, attempts), ?::interval),
+                last_error = ?
+            WHERE id = ANY(?)
+            """;
+
+    @Inject
+    ShardDataSources shards;
+
+    @Inject
+    @Any
+    Instance<EventTransport> transports;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "axis.outbox.relay.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.outbox.transport", defaultValue = "memory")
+    String transportName;
+
+    @ConfigProperty(name = "axis.outbox.relay.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @ConfigProperty(name = "axis.outbox.relay.max-batches", defaultValue = "10")
+    int maxBatchesPerRun;
+
+    @ConfigProperty(name = "axis.outbox.relay.max-backoff", defaultValue = "5m")
+    Duration maxBackoff;
+
+    private EventTransport transport;
+    private Counter published;
+    private Counter failed;
+    private Timer publishTimer;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    void init() {
+        transport = transports.select(NamedLiteral.of(transportName)).get();
+        published = Counter.builder("axis.outbox.published")
+                .description("Outbox events confirmed by the broker")
+                .register(meterRegistry);
+        failed = Counter.builder("axis.outbox.publish.failed")
+                .description("Outbox events whose batch was rejected or not confirmed")
+                .register(meterRegistry);
+        publishTimer = Timer.builder("axis.outbox.publish")
+                .description("Time to publish one batch and receive its confirms")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("axis.outbox.batch.size")
+                .description("Events per relayed batch")
+                .register(meterRegistry);
+        log.info("Outbox relay {} using the '{}' transport", enabled ? "enabled" : "disabled", transportName);
+    }
+
+    @Scheduled(every = "${axis.outbox.relay.interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void relay() {
+        if (!enabled) {
+            return;
+        }
+        shards.all().forEach((shard, dataSource) -> {
+            try {
+                // Keep draining while batches come back full, up to a bound so one replica does not monopolize a backlog
+                for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                    if (relayBatch(dataSource) < batchSize) {
+                        return;
+                    }
+                }
+            } catch (SQLException e) {
+                log.warn("Outbox relay failed on shard {}: {}", shard, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Claims, publishes and settles one batch of the given shard
+     *
+     * @return the number of claimed rows
+     */
+    public int relayBatch(AgroalDataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                List<OutboxMessage> messages = claim(connection);
+                if (messages.isEmpty()) {
+                    connection.commit();
+                    return 0;
+                }
+
+                Array ids = connection.createArrayOf("bigint", messages.stream().map(OutboxMessage::id).toArray());
+                try {
+                    publishTimer.record(() -> transport.publish(messages));
+                    execute(connection, DELETE_SQL, ids);
+                    published.increment(messages.size());
+                } catch (EventTransportException e) {
+                    log.warn("Could not publish {} outbox events, retrying later: {}", messages.size(), e.getMessage());
+                    try (PreparedStatement statement = connection.prepareStatement(BACKOFF_SQL)) {
+                        statement.setString(1, maxBackoff.toSeconds() + " seconds");
+                        statement.setString(2, e.getMessage());
+                        statement.setArray(3, ids);
+                        statement.executeUpdate();
+                    }
+                    failed.increment(messages.size());
+                }
+                connection.commit();
+                batchSizes.record(messages.size());
+                return messages.size();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private List<OutboxMessage> claim(Connection connection) throws SQLException {
+        List<OutboxMessage> messages = new ArrayList<>(batchSize);
+        try (PreparedStatement statement = connection.prepareStatement(CLAIM_SQL)) {
+            statement.setInt(1, batchSize);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    messages.add(new OutboxMessage(
+                            rs.getLong("id"),
+                            OutboxEventType.valueOf(rs.getString("event_type")),
+                            rs.getObject("aggregate_id", UUID.class),
+                            rs.getObject("user_id", UUID.class),
+                            rs.getString("payload"),
+                            rs.getObject("created_at", LocalDateTime.class).toInstant(ZoneOffset.UTC)));
+                }
+            }
+        }
+        return messages;
+    }
+
+    private static void execute(Connection connection, String sql, Array ids) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, ids);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.axis.goal.outbox;
+
+import com.axis.goal.model.entity.OutboxEvent;
+import com.axis.goal.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+
+/**
+ * Appends domain events to the outbox. Must be called inside the transaction that makes the change, so the
+ * event is committed (or rolled back) together with it; {@link OutboxRelay} publishes it afterwards.
+ */
+@Slf4j
+@ApplicationScoped
+public class OutboxWriter {
+
+    @Inject
+    OutboxEventRepository outboxRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(OutboxEventType eventType, UUID aggregateId, UUID userId, Object payload) {
+        outboxRepository.persist(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .userId(userId)
+                .payload(toJson(payload))
+                .build());
+        log.debug("Appended {} for {} to the outbox", eventType, aggregateId);
+    }
+
+    public String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+}
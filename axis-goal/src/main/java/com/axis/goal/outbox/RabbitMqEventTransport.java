@@ -0,0 +1,142 @@
+package com.axis.goal.outbox;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.BuiltinExchangeType;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Named;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes to a durable topic exchange on RabbitMQ with publisher confirms.
+ * <p>
+ * A batch is published back to back on one confirm-mode channel and then awaited as a whole, so a batch costs
+ * one round trip of confirms rather than one per message. Messages are persistent and carry the outbox row id as
+ * {@code message-id}. Any nack, timeout or connection error closes the channel and fails the batch; the next
+ * batch opens a new channel.
+ */
+@Slf4j
+@ApplicationScoped
+@Named("rabbitmq")
+public class RabbitMqEventTransport implements EventTransport {
+
+    private static final int PERSISTENT = 2;
+
+    @ConfigProperty(name = "axis.outbox.rabbitmq.host", defaultValue = "localhost")
+    String host;
+
+    @ConfigProperty(name = "axis.outbox.rabbitmq.port", defaultValue = "5672")
+    int port;
+
+    @ConfigProperty(name = "axis.outbox.rabbitmq.username", defaultValue = "guest")
+    String username;
+
+    @ConfigProperty(name = "axis.outbox.rabbitmq.password", defaultValue = "guest")
+    String password;
+
+    @ConfigProperty(name = "axis.outbox.rabbitmq.virtual-host", defaultValue = "/")
+    String virtualHost;
+
+    @ConfigProperty(name = "axis.outbox.rabbitmq.exchange", defaultValue = "axis.goal.events")
+    String exchange;
+
+    @ConfigProperty(name = "axis.outbox.rabbitmq.confirm-timeout", defaultValue = "5s")
+    Duration confirmTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Connection connection;
+    private Channel channel;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        lock.lock();
+        try {
+            Channel confirmChannel = channel();
+            for (OutboxMessage message : messages) {
+                AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                        .contentType("application/json")
+                        .deliveryMode(PERSISTENT)
+                        .messageId(message.messageId())
+                        .type(message.eventType().name())
+                        .timestamp(Date.from(message.createdAt()))
+                        .headers(Map.of(
+                                "aggregateId", message.aggregateId().toString(),
+                                "userId", message.userId().toString()))
+                        .build();
+                confirmChannel.basicPublish(exchange, message.eventType().routingKey(), properties,
+                        message.payload().getBytes(StandardCharsets.UTF_8));
+            }
+            confirmChannel.waitForConfirmsOrDie(confirmTimeout.toMillis());
+        } catch (IOException | TimeoutException e) {
+            closeChannel();
+            throw new EventTransportException("Batch of " + messages.size() + " messages was not confirmed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeChannel();
+            throw new EventTransportException("Interrupted while waiting for publisher confirms", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Channel channel() throws IOException, TimeoutException {
+        if (channel != null && channel.isOpen()) {
+            return channel;
+        }
+        if (connection == null || !connection.isOpen()) {
+            ConnectionFactory factory = new ConnectionFactory();
+            factory.setHost(host);
+            factory.setPort(port);
+            factory.setUsername(username);
+            factory.setPassword(password);
+            factory.setVirtualHost(virtualHost);
+            connection = factory.newConnection("axis-goal-outbox");
+            log.info("Connected to RabbitMQ at {}:{}/{}", host, port, virtualHost);
+        }
+        channel = connection.createChannel();
+        channel.confirmSelect();
+        channel.exchangeDeclare(exchange, BuiltinExchangeType.TOPIC, true);
+        return channel;
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                if (channel.isOpen()) {
+                    channel.close();
+                }
+            } catch (IOException | TimeoutException | RuntimeException e) {
+                log.debug("Error closing RabbitMQ channel: {}", e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        lock.lock();
+        try {
+            closeChannel();
+            if (connection != null && connection.isOpen()) {
+                connection.close();
+            }
+        } catch (IOException e) {
+            log.debug("Error closing RabbitMQ connection: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
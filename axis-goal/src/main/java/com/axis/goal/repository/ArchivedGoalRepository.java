@@ -0,0 +1,38 @@
+package com.axis.goal.repository;
+
+import com.axis.goal.model.entity.ArchivedGoal;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@ApplicationScoped
+public class ArchivedGoalRepository implements PanacheRepositoryBase<ArchivedGoal, UUID> {
+
+    /**
+     * Find archived goals for a specific user
+     */
+    public List<ArchivedGoal> findByUserId(UUID userId, Page page, Sort sort) {
+        return find("userId", sort, userId)
+            .page(page)
+            .list();
+    }
+
+    /**
+     * Count archived goals for a specific user
+     */
+    public long countByUserId(UUID userId) {
+        return count("userId", userId);
+    }
+
+    /**
+     * Find a specific archived goal by id and userId (for security)
+     */
+    public Optional<ArchivedGoal> findByIdAndUserId(UUID id, UUID userId) {
+        return find("id = ?1 and userId = ?2", id, userId).firstResultOptional();
+    }
+}
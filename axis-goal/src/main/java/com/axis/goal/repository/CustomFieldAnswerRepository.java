@@ -4,6 +4,7 @@ import com.axis.goal.model.entity.CustomFieldAnswer;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,9 +15,26 @@ public class CustomFieldAnswerRepository implements PanacheRepositoryBase<Custom
     /**
      * Find all answers for a specific goal.
      * Useful for loading all custom field values when displaying a goal.
+     * Scoped by user so a partitioned table is pruned to one partition.
      */
-    public List<CustomFieldAnswer> findByGoalId(UUID goalId) {
-        return find("goal.id", goalId).list();
+    public List<CustomFieldAnswer> findByGoalIdAndUserId(UUID goalId, UUID userId) {
+        return find("goal.id = ?1 and userId = ?2", goalId, userId).list();
+    }
+
+    /**
+     * Find the answers of several goals of a user in one query, with their field definitions
+     */
+    public List<CustomFieldAnswer> findByGoalIdsAndUserId(Collection<UUID> goalIds, UUID userId) {
+        return find("from CustomFieldAnswer a join fetch a.fieldDefinition where a.goal.id in ?1 and a.userId = ?2",
+                goalIds, userId).list();
+    }
+
+    /**
+     * Find an answer unless its goal is deleted.
+     * Loading by id bypasses the goal's soft-delete restriction, so it is checked explicitly.
+     */
+    public Optional<CustomFieldAnswer> findActiveById(UUID id) {
+        return find("id = ?1 and goal.deletedAt is null", id).firstResultOptional();
     }
 
     /**
@@ -44,9 +62,9 @@ public class CustomFieldAnswerRepository implements PanacheRepositoryBase<Custom
     }
 
     /**
-     * Check if an answer exists for a specific goal and field definition.
+     * Check if an answer exists for a specific goal and field definition of a user.
      */
-    public boolean existsByGoalIdAndFieldDefinitionId(UUID goalId, UUID fieldDefinitionId) {
-        return count("goal.id = ?1 and fieldDefinition.id = ?2", goalId, fieldDefinitionId) > 0;
+    public boolean existsByGoalIdAndFieldDefinitionId(UUID goalId, UUID fieldDefinitionId, UUID userId) {
+        return count("goal.id = ?1 and fieldDefinition.id = ?2 and userId = ?3", goalId, fieldDefinitionId, userId) > 0;
     }
 }
@@ -5,6 +5,7 @@ import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @ApplicationScoped
@@ -25,4 +26,12 @@ public class CustomFieldDefinitionRepository implements PanacheRepositoryBase<Cu
     public List<CustomFieldDefinition> findByGoalTypeIdAndRequiredTrue(UUID goalTypeId) {
         return find("goalType.id = ?1 and required = true", goalTypeId).list();
     }
+
+    /**
+     * Find a field definition unless its goal type is deleted.
+     * Loading by id bypasses the goal type's soft-delete restriction, so it is checked explicitly.
+     */
+    public Optional<CustomFieldDefinition> findActiveById(UUID id) {
+        return find("id = ?1 and goalType.deletedAt is null", id).firstResultOptional();
+    }
 }
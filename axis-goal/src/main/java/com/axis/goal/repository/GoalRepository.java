@@ -7,13 +7,26 @@ import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Every query is scoped by {@code userId}, the partition key when goals are hash-partitioned (see V7), so
+ * PostgreSQL prunes it to a single partition. Keep it that way for new queries.
+ */
 @ApplicationScoped
 public class GoalRepository implements PanacheRepositoryBase<Goal, UUID> {
 
+    /**
+     * Outbox payload of a goal row {@code n} inserted by a set-based statement, shaped like {@code GoalResponse}
+     */
+    public static final String GOAL_CREATED_PAYLOAD = """
+            jsonb_build_object('id', n.id, 'title', n.title, 'description', n.description, 'typeId', n.goal_type_id,
+                               'status', n.status, 'userId', n.user_id, 'createdAt', n.created_at,
+                               'updatedAt', n.updated_at, 'version', n.version)""";
+
     /**
      * Find all goals for a specific user
      */
@@ -70,10 +83,96 @@ public class GoalRepository implements PanacheRepositoryBase<Goal, UUID> {
     }
 
     /**
-     * Delete a goal by id and userId (for security)
+     * Find the direct children of several goals of a user in one query
+     */
+    public List<Goal> findByParentIdsAndUserId(Collection<UUID> parentIds, UUID userId) {
+        return find("parent.id in ?1 and userId = ?2", Sort.by("createdAt"), parentIds, userId).list();
+    }
+
+    /**
+     * Find several goals of a user in one query
+     */
+    public List<Goal> findByIdsAndUserId(Collection<UUID> ids, UUID userId) {
+        return find("id in ?1 and userId = ?2", ids, userId).list();
+    }
+
+    /**
+     * Mark a goal and all its descendants as deleted in one statement; rows are removed later by SoftDeletePurger.
+     * Returns the number of marked goals.
+     */
+    public int softDeleteSubtree(UUID id, UUID userId) {
+        return softDeleteSubtrees("id = :root AND user_id = :userId", id, userId);
+    }
+
+    /**
+     * Mark every goal of a type, with all their descendants, as deleted
+     */
+    public int softDeleteByTypeId(UUID typeId, UUID userId) {
+        return softDeleteSubtrees("goal_type_id = :root AND user_id = :userId", typeId, userId);
+    }
+
+    // Bumps version like a Hibernate update, so a concurrent PATCH of a loaded goal fails its version check instead of
+    // writing deleted_at back to NULL
+    private int softDeleteSubtrees(String roots, UUID root, UUID userId) {
+        return getEntityManager().createNativeQuery("""
+                WITH RECURSIVE subtree AS (
+                    SELECT id FROM goals WHERE %s AND deleted_at IS NULL
+                    UNION ALL
+                    SELECT g.id FROM goals g JOIN subtree s ON g.parent_id = s.id
+                    WHERE g.user_id = :userId AND g.deleted_at IS NULL
+                )
+                UPDATE goals SET deleted_at = timezone('UTC', now()), version = version + 1
+                WHERE user_id = :userId AND id IN (SELECT id FROM subtree)
+                """.formatted(roots))
+            .setParameter("root", root)
+            .setParameter("userId", userId)
+            .executeUpdate();
+    }
+
+    /**
+     * Copy a goal and all its live descendants, with their answers, in one statement. New ids are assigned in
+     * {@code goal_map}, so parents are remapped inside the database; the copied root keeps the original's parent.
+     * Every copy gets a GOAL_CREATED outbox event. Returns the id of the copied root, empty if the goal is missing.
      */
-    public long deleteByIdAndUserId(UUID id, UUID userId) {
-        return delete("id = ?1 and userId = ?2", id, userId);
+    public Optional<UUID> cloneSubtree(UUID id, UUID userId) {
+        List<?> result = getEntityManager().createNativeQuery("""
+                WITH RECURSIVE subtree AS (
+                    SELECT id FROM goals WHERE id = :root AND user_id = :userId AND deleted_at IS NULL
+                    UNION ALL
+                    SELECT g.id FROM goals g JOIN subtree s ON g.parent_id = s.id
+                    WHERE g.user_id = :userId AND g.deleted_at IS NULL
+                ),
+                goal_map AS MATERIALIZED (
+                    SELECT id AS old_id, gen_random_uuid() AS new_id FROM subtree
+                ),
+                new_goals AS (
+                    INSERT INTO goals (id, title, description, goal_type_id, status, parent_id, user_id,
+                                       created_at, updated_at, version)
+                    SELECT m.new_id, g.title, g.description, g.goal_type_id, g.status, COALESCE(p.new_id, g.parent_id),
+                           g.user_id, timezone('UTC', now()), timezone('UTC', now()), 0
+                    FROM goal_map m
+                    JOIN goals g ON g.id = m.old_id AND g.user_id = :userId
+                    LEFT JOIN goal_map p ON p.old_id = g.parent_id
+                    RETURNING *
+                ),
+                events AS (
+                    INSERT INTO outbox_events (event_type, aggregate_id, user_id, payload, created_at)
+                    SELECT 'GOAL_CREATED', n.id, n.user_id, %s, timezone('UTC', now())
+                    FROM new_goals n
+                ),
+                answers AS (
+                    INSERT INTO custom_field_answers (id, field_definition_id, field_value, goal_id, user_id, version)
+                    SELECT gen_random_uuid(), a.field_definition_id, a.field_value, m.new_id, a.user_id, 0
+                    FROM custom_field_answers a
+                    JOIN goal_map m ON m.old_id = a.goal_id
+                    WHERE a.user_id = :userId
+                )
+                SELECT new_id FROM goal_map WHERE old_id = :root
+                """.formatted(GOAL_CREATED_PAYLOAD))
+            .setParameter("root", id)
+            .setParameter("userId", userId)
+            .getResultList();
+        return result.stream().map(UUID.class::cast).findFirst();
     }
 
     /**
@@ -6,6 +6,7 @@ import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +30,81 @@ public class GoalTypeRepository implements PanacheRepositoryBase<GoalType, UUID>
         return count("userId", userId);
     }
 
+    /**
+     * Copy a goal type, its custom field definitions and, if {@code includeGoals}, every live goal of the type with
+     * all its live descendants and their answers, in one statement. Ids are remapped inside the database: copied
+     * goals of the type and answers to its fields point at the new type and definitions, copied roots keep their
+     * original parent. Every copied goal gets a GOAL_CREATED outbox event. Returns the number of copied goals.
+     */
+    public int cloneWithGoals(UUID typeId, UUID newTypeId, String title, int levelNumber, UUID userId,
+                              boolean includeGoals) {
+        Object copied = getEntityManager().createNativeQuery("""
+                WITH RECURSIVE new_type AS (
+                    INSERT INTO goal_types (id, title, level_number, user_id, version)
+                    SELECT :newTypeId, :title, :level, t.user_id, 0
+                    FROM goal_types t WHERE t.id = :typeId AND t.user_id = :userId AND t.deleted_at IS NULL
+                    RETURNING id
+                ),
+                definition_map AS MATERIALIZED (
+                    SELECT id AS old_id, gen_random_uuid() AS new_id
+                    FROM custom_field_definitions WHERE goal_type_id = :typeId
+                ),
+                new_definitions AS (
+                    INSERT INTO custom_field_definitions (id, label, type, required, placeholder, goal_type_id)
+                    SELECT m.new_id, d.label, d.type, d.required, d.placeholder, t.id
+                    FROM definition_map m
+                    JOIN custom_field_definitions d ON d.id = m.old_id
+                    CROSS JOIN new_type t
+                ),
+                -- UNION, not UNION ALL: a goal of the type below another goal of the type is reached twice
+                subtree AS (
+                    SELECT id FROM goals
+                    WHERE goal_type_id = :typeId AND user_id = :userId AND deleted_at IS NULL AND :includeGoals
+                    UNION
+                    SELECT g.id FROM goals g JOIN subtree s ON g.parent_id = s.id
+                    WHERE g.user_id = :userId AND g.deleted_at IS NULL
+                ),
+                goal_map AS MATERIALIZED (
+                    SELECT id AS old_id, gen_random_uuid() AS new_id FROM subtree
+                ),
+                new_goals AS (
+                    INSERT INTO goals (id, title, description, goal_type_id, status, parent_id, user_id,
+                                       created_at, updated_at, version)
+                    SELECT m.new_id, g.title, g.description,
+                           CASE WHEN g.goal_type_id = :typeId THEN :newTypeId ELSE g.goal_type_id END,
+                           g.status, COALESCE(p.new_id, g.parent_id), g.user_id,
+                           timezone('UTC', now()), timezone('UTC', now()), 0
+                    FROM goal_map m
+                    JOIN goals g ON g.id = m.old_id AND g.user_id = :userId
+                    LEFT JOIN goal_map p ON p.old_id = g.parent_id
+                    RETURNING *
+                ),
+                events AS (
+                    INSERT INTO outbox_events (event_type, aggregate_id, user_id, payload, created_at)
+                    SELECT 'GOAL_CREATED', n.id, n.user_id, %s, timezone('UTC', now())
+                    FROM new_goals n
+                ),
+                answers AS (
+                    INSERT INTO custom_field_answers (id, field_definition_id, field_value, goal_id, user_id, version)
+                    SELECT gen_random_uuid(), COALESCE(dm.new_id, a.field_definition_id), a.field_value, m.new_id,
+                           a.user_id, 0
+                    FROM custom_field_answers a
+                    JOIN goal_map m ON m.old_id = a.goal_id
+                    LEFT JOIN definition_map dm ON dm.old_id = a.field_definition_id
+                    WHERE a.user_id = :userId
+                )
+                SELECT count(*) FROM new_goals
+                """.formatted(GoalRepository.GOAL_CREATED_PAYLOAD))
+            .setParameter("typeId", typeId)
+            .setParameter("newTypeId", newTypeId)
+            .setParameter("title", title)
+            .setParameter("level", levelNumber)
+            .setParameter("userId", userId)
+            .setParameter("includeGoals", includeGoals)
+            .getSingleResult();
+        return ((Number) copied).intValue();
+    }
+
     /**
      * Find specific goal type by ID and userId (for security)
      */
@@ -37,18 +113,19 @@ public class GoalTypeRepository implements PanacheRepositoryBase<GoalType, UUID>
     }
 
     /**
-     * Find level configuration by its number for a specific user.
-     * Since there is a UniqueConstraint on (user_id, level_number), returns Optional.
+     * Find several goal types of a user in one query, with their custom field definitions
      */
-    public Optional<GoalType> findByUserIdAndLevelNumber(UUID userId, Integer levelNumber) {
-        return find("userId = ?1 and levelNumber = ?2", userId, levelNumber).firstResultOptional();
+    public List<GoalType> findByIdsAndUserIdWithFields(Collection<UUID> ids, UUID userId) {
+        return find("select distinct t from GoalType t left join fetch t.customFields where t.id in ?1 and t.userId = ?2",
+                ids, userId).list();
     }
 
     /**
-     * Delete goal type by ID and userId
+     * Find level configuration by its number for a specific user.
+     * Since there is a UniqueConstraint on (user_id, level_number), returns Optional.
      */
-    public long deleteByIdAndUserId(UUID id, UUID userId) {
-        return delete("id = ?1 and userId = ?2", id, userId);
+    public Optional<GoalType> findByUserIdAndLevelNumber(UUID userId, Integer levelNumber) {
+        return find("userId = ?1 and levelNumber = ?2", userId, levelNumber).firstResultOptional();
     }
 
     /**
@@ -0,0 +1,9 @@
+package com.axis.goal.repository;
+
+import com.axis.goal.model.entity.OutboxEvent;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class OutboxEventRepository implements PanacheRepositoryBase<OutboxEvent, Long> {
+}
@@ -14,14 +14,16 @@ public interface CustomFieldAnswerService {
     CustomFieldAnswerResponse create(UUID goalId, CustomFieldAnswerRequest request);
 
     /**
-     * Update an existing custom field answer (full update)
+     * Update an existing custom field answer (full update).
+     * When {@code expectedVersion} is given and differs from the stored version, fails with 412.
      */
-    CustomFieldAnswerResponse update(UUID id, CustomFieldAnswerRequest request);
+    CustomFieldAnswerResponse update(UUID id, CustomFieldAnswerRequest request, Long expectedVersion);
 
     /**
-     * Partially update an existing custom field answer (only non-null fields)
+     * Partially update an existing custom field answer (only non-null fields).
+     * When {@code expectedVersion} is given and differs from the stored version, fails with 412.
      */
-    CustomFieldAnswerResponse patch(UUID id, CustomFieldAnswerRequest request);
+    CustomFieldAnswerResponse patch(UUID id, CustomFieldAnswerRequest request, Long expectedVersion);
 
     /**
      * Find a custom field answer by ID
@@ -1,10 +1,12 @@
 package com.axis.goal.service;
 
+import com.axis.goal.model.dto.GoalBatchGetResult;
 import com.axis.goal.model.dto.GoalRequest;
 import com.axis.goal.model.dto.GoalResponse;
 import com.axis.goal.model.dto.PageResponse;
 import com.axis.goal.model.entity.Goal.GoalStatus;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface GoalService {
@@ -15,14 +17,21 @@ public interface GoalService {
     GoalResponse create(GoalRequest request);
 
     /**
-     * Partially update an existing goal configuration (only non-null fields)
+     * Partially update an existing goal configuration (only non-null fields).
+     * When {@code expectedVersion} is given and differs from the stored version, fails with 412.
      */
-    GoalResponse patch(UUID id, GoalRequest request);
+    GoalResponse patch(UUID id, GoalRequest request, Long expectedVersion);
     /**
      * Find a goal by ID (only returns if it belongs to the authenticated user)
      */
     GoalResponse findById(UUID id);
 
+    /**
+     * Find several goals of the authenticated user at once; results follow the order of {@code ids}, with a
+     * not-found entry for every id that is missing or belongs to another user
+     */
+    List<GoalBatchGetResult> findByIds(List<UUID> ids);
+
     /**
      * Find all goals for the authenticated user
      */
@@ -38,6 +47,21 @@ public interface GoalService {
      */
     PageResponse<GoalResponse> findByTypeId(UUID typeId, int page, int size, String sortBy, String sortDirection);
 
+    /**
+     * Find an archived goal by ID (only returns if it belongs to the authenticated user)
+     */
+    GoalResponse findArchivedById(UUID id);
+
+    /**
+     * Find archived goals for the authenticated user
+     */
+    PageResponse<GoalResponse> findArchived(int page, int size, String sortBy, String sortDirection);
+
+    /**
+     * Copy a goal with all its descendants and their custom field answers; the copy is placed under the same parent
+     */
+    GoalResponse cloneSubtree(UUID id);
+
     /**
      * Delete a goal
      */
@@ -14,9 +14,10 @@ public interface GoalTypeService {
     GoalTypeResponse create(GoalTypeRequest request);
 
     /**
-     * Partially update an existing goal type configuration (only non-null fields)
+     * Partially update an existing goal type configuration (only non-null fields).
+     * When {@code expectedVersion} is given and differs from the stored version, fails with 412.
      */
-    GoalTypeResponse patch(UUID id, GoalTypeRequest request);
+    GoalTypeResponse patch(UUID id, GoalTypeRequest request, Long expectedVersion);
 
     /**
      * Find goal type by ID (only if it belongs to the user)
@@ -28,6 +29,12 @@ public interface GoalTypeService {
      */
     PageResponse<GoalTypeResponse> findAll(int page, int size, String sortBy, String sortDirection);
 
+    /**
+     * Copy a goal type with its custom field definitions as a new last level. With {@code includeGoals}, the goals
+     * of the type are copied too, with their subtrees and answers, and attached to the copy.
+     */
+    GoalTypeResponse clone(UUID id, String title, boolean includeGoals);
+
     /**
      * Delete a goal type
      */
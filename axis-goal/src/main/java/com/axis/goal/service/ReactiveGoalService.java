@@ -0,0 +1,41 @@
+package com.axis.goal.service;
+
+import com.axis.goal.model.dto.GoalBatchGetResult;
+import com.axis.goal.model.dto.GoalRequest;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.PageResponse;
+import com.axis.goal.model.entity.Goal.GoalStatus;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link GoalService}, only present in the {@code reactive} build. Methods have the
+ * same contracts and complete their {@link Uni} instead of returning; the current user is read when the method
+ * is called, not when the {@code Uni} is subscribed.
+ */
+public interface ReactiveGoalService {
+
+    Uni<GoalResponse> create(GoalRequest request);
+
+    Uni<GoalResponse> patch(UUID id, GoalRequest request, Long expectedVersion);
+
+    Uni<GoalResponse> findById(UUID id);
+
+    Uni<List<GoalBatchGetResult>> findByIds(List<UUID> ids);
+
+    Uni<PageResponse<GoalResponse>> findAll(int page, int size, String sortBy, String sortDirection);
+
+    Uni<PageResponse<GoalResponse>> findByStatus(GoalStatus status, int page, int size, String sortBy, String sortDirection);
+
+    Uni<PageResponse<GoalResponse>> findByTypeId(UUID typeId, int page, int size, String sortBy, String sortDirection);
+
+    Uni<GoalResponse> findArchivedById(UUID id);
+
+    Uni<PageResponse<GoalResponse>> findArchived(int page, int size, String sortBy, String sortDirection);
+
+    Uni<GoalResponse> cloneSubtree(UUID id);
+
+    Uni<Void> delete(UUID id);
+}
@@ -2,6 +2,7 @@ package com.axis.goal.service.pg;
 
 import com.axis.common.exception.BusinessException;
 import com.axis.common.exception.ResourceNotFoundException;
+import com.axis.common.metrics.MeasuredService;
 import com.axis.common.security.SecurityUtils;
 import com.axis.goal.mapper.CustomFieldAnswerMapper;
 import com.axis.goal.model.dto.CustomFieldAnswerRequest;
@@ -23,6 +24,7 @@ import java.util.UUID;
 
 @Slf4j
 @ApplicationScoped
+@MeasuredService
 public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomFieldAnswerService {
 
     @Inject
@@ -51,7 +53,7 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
                 .orElseThrow(() -> new ResourceNotFoundException("Goal", goalId));
 
         // Verify field definition exists
-        CustomFieldDefinition definition = definitionRepository.findByIdOptional(request.fieldDefinitionId())
+        CustomFieldDefinition definition = definitionRepository.findActiveById(request.fieldDefinitionId())
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldDefinition", request.fieldDefinitionId()));
 
         // Verify the field definition belongs to the goal's type
@@ -63,7 +65,7 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
         }
 
         // Check if answer already exists for this field and goal
-        if (answerRepository.existsByGoalIdAndFieldDefinitionId(goalId, request.fieldDefinitionId())) {
+        if (answerRepository.existsByGoalIdAndFieldDefinitionId(goalId, request.fieldDefinitionId(), userId)) {
             throw new BusinessException(
                     "Answer for this custom field already exists. Use update endpoint instead.",
                     Response.Status.CONFLICT
@@ -80,6 +82,7 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
 
         CustomFieldAnswer answer = answerMapper.toEntity(request);
         answer.setGoal(goal);
+        answer.setUserId(userId);
         answer.setFieldDefinition(definition);
 
         answerRepository.persist(answer);
@@ -90,11 +93,11 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
 
     @Override
     @Transactional
-    public CustomFieldAnswerResponse update(UUID id, CustomFieldAnswerRequest request) {
+    public CustomFieldAnswerResponse update(UUID id, CustomFieldAnswerRequest request, Long expectedVersion) {
         UUID userId = getCurrentUserId();
         log.debug("Updating custom field answer: {} by user: {}", id, userId);
 
-        CustomFieldAnswer answer = answerRepository.findByIdOptional(id)
+        CustomFieldAnswer answer = answerRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldAnswer", id));
 
         // Verify goal belongs to user
@@ -111,8 +114,11 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
             );
         }
 
+        OptimisticLocking.checkVersion("CustomFieldAnswer", id, answer.getVersion(), expectedVersion);
+
         // Update only the value (field definition should not change)
         answer.setValue(request.value());
+        answerRepository.flush();
 
         log.info("Updated custom field answer: {}", id);
         return answerMapper.toResponse(answer);
@@ -120,11 +126,11 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
 
     @Override
     @Transactional
-    public CustomFieldAnswerResponse patch(UUID id, CustomFieldAnswerRequest request) {
+    public CustomFieldAnswerResponse patch(UUID id, CustomFieldAnswerRequest request, Long expectedVersion) {
         UUID userId = getCurrentUserId();
         log.debug("Patching custom field answer: {} by user: {}", id, userId);
 
-        CustomFieldAnswer answer = answerRepository.findByIdOptional(id)
+        CustomFieldAnswer answer = answerRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldAnswer", id));
 
         // Verify goal belongs to user
@@ -140,8 +146,11 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
             );
         }
 
+        OptimisticLocking.checkVersion("CustomFieldAnswer", id, answer.getVersion(), expectedVersion);
+
         // Use mapper for partial update (only non-null fields)
         answerMapper.patchEntity(request, answer);
+        answerRepository.flush();
 
         log.info("Patched custom field answer: {}", id);
         return answerMapper.toResponse(answer);
@@ -152,7 +161,7 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
         UUID userId = getCurrentUserId();
         log.debug("Finding custom field answer: {} by user: {}", id, userId);
 
-        CustomFieldAnswer answer = answerRepository.findByIdOptional(id)
+        CustomFieldAnswer answer = answerRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldAnswer", id));
 
         // Verify goal belongs to user
@@ -172,7 +181,7 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
         Goal goal = goalRepository.findByIdAndUserId(goalId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Goal", goalId));
 
-        return answerRepository.findByGoalId(goalId)
+        return answerRepository.findByGoalIdAndUserId(goalId, userId)
                 .stream()
                 .map(answerMapper::toResponse)
                 .toList();
@@ -184,7 +193,7 @@ public class CustomFieldAnswerServicePg implements com.axis.goal.service.CustomF
         UUID userId = getCurrentUserId();
         log.debug("Deleting custom field answer: {} by user: {}", id, userId);
 
-        CustomFieldAnswer answer = answerRepository.findByIdOptional(id)
+        CustomFieldAnswer answer = answerRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldAnswer", id));
 
         // Verify goal belongs to user
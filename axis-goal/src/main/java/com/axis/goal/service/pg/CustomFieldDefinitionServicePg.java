@@ -2,7 +2,9 @@ package com.axis.goal.service.pg;
 
 import com.axis.common.exception.BusinessException;
 import com.axis.common.exception.ResourceNotFoundException;
+import com.axis.common.metrics.MeasuredService;
 import com.axis.common.security.SecurityUtils;
+import com.axis.goal.cache.GoalDataChangedEvent;
 import com.axis.goal.mapper.CustomFieldDefinitionMapper;
 import com.axis.goal.model.dto.CustomFieldDefinitionRequest;
 import com.axis.goal.model.dto.CustomFieldDefinitionResponse;
@@ -14,6 +16,7 @@ import com.axis.goal.repository.CustomFieldDefinitionRepository;
 import com.axis.goal.repository.GoalTypeRepository;
 import com.axis.goal.service.CustomFieldDefinitionService;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.core.Response;
@@ -24,6 +27,7 @@ import java.util.UUID;
 
 @Slf4j
 @ApplicationScoped
+@MeasuredService
 public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionService {
 
     @Inject
@@ -38,6 +42,9 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
     @Inject
     SecurityUtils securityUtils;
 
+    @Inject
+    Event<GoalDataChangedEvent> dataChanged;
+
     @Override
     @Transactional
     public CustomFieldDefinitionResponse create(UUID goalTypeId, CustomFieldDefinitionRequest request) {
@@ -52,6 +59,7 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
         definition.setGoalType(goalType);
 
         definitionRepository.persist(definition);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
         log.info("Created custom field definition with id: {} for goal type: {}", definition.getId(), goalTypeId);
 
         return definitionMapper.toResponse(definition);
@@ -63,7 +71,7 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
         UUID userId = getCurrentUserId();
         log.debug("Updating custom field definition: {} by user: {}", id, userId);
 
-        CustomFieldDefinition definition = definitionRepository.findByIdOptional(id)
+        CustomFieldDefinition definition = definitionRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldDefinition", id));
 
         // Verify goal type belongs to user
@@ -72,6 +80,7 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
         }
 
         definitionMapper.updateEntity(request, definition);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
 
         log.info("Updated custom field definition: {}", id);
         return definitionMapper.toResponse(definition);
@@ -83,7 +92,7 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
         UUID userId = getCurrentUserId();
         log.debug("Patching custom field definition: {} by user: {}", id, userId);
 
-        CustomFieldDefinition definition = definitionRepository.findByIdOptional(id)
+        CustomFieldDefinition definition = definitionRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldDefinition", id));
 
         // Verify goal type belongs to user
@@ -92,6 +101,7 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
         }
 
         definitionMapper.updateEntity(request, definition);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
 
         log.info("Updated custom field definition: {}", id);
         return definitionMapper.toResponse(definition);
@@ -102,7 +112,7 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
         UUID userId = getCurrentUserId();
         log.debug("Finding custom field definition: {} by user: {}", id, userId);
 
-        CustomFieldDefinition definition = definitionRepository.findByIdOptional(id)
+        CustomFieldDefinition definition = definitionRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldDefinition", id));
 
         // Verify goal type belongs to user
@@ -134,7 +144,7 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
         UUID userId = getCurrentUserId();
         log.debug("Deleting custom field definition: {} by user: {}", id, userId);
 
-        CustomFieldDefinition definition = definitionRepository.findByIdOptional(id)
+        CustomFieldDefinition definition = definitionRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("CustomFieldDefinition", id));
 
         // Verify goal type belongs to user
@@ -143,6 +153,7 @@ public class CustomFieldDefinitionServicePg implements CustomFieldDefinitionServ
         }
 
         definitionRepository.delete(definition);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
         log.info("Deleted custom field definition: {}", id);
     }
 
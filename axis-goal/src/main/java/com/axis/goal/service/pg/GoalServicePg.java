@@ -1,38 +1,57 @@
 package com.axis.goal.service.pg;
 
+import com.axis.common.datasource.ReadOnly;
 import com.axis.common.exception.BusinessException;
 import com.axis.common.exception.ResourceNotFoundException;
+import com.axis.common.metrics.MeasuredService;
 import com.axis.common.security.SecurityUtils;
+import com.axis.goal.cache.GoalDataChangedEvent;
+import com.axis.goal.cache.GoalResponseCache;
 import com.axis.goal.mapper.GoalMapper;
+import com.axis.goal.model.dto.GoalBatchGetResult;
 import com.axis.goal.model.dto.GoalRequest;
 import com.axis.goal.model.dto.GoalResponse;
 import com.axis.goal.model.dto.PageResponse;
+import com.axis.goal.model.entity.ArchivedGoal;
 import com.axis.goal.model.entity.CustomFieldDefinition;
 import com.axis.goal.model.entity.Goal;
 import com.axis.goal.model.entity.Goal.GoalStatus;
 import com.axis.goal.model.entity.GoalType;
+import com.axis.goal.outbox.OutboxEventType;
+import com.axis.goal.outbox.OutboxWriter;
+import com.axis.goal.repository.ArchivedGoalRepository;
 import com.axis.goal.repository.CustomFieldDefinitionRepository;
 import com.axis.goal.repository.GoalRepository;
 import com.axis.goal.repository.GoalTypeRepository;
 import com.axis.goal.service.GoalService;
+import io.quarkus.arc.profile.UnlessBuildProfile;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @ApplicationScoped
+@MeasuredService
+@UnlessBuildProfile("reactive")
 public class GoalServicePg implements GoalService {
 
     @Inject
     GoalRepository goalRepository;
 
+    @Inject
+    ArchivedGoalRepository archivedGoalRepository;
+
     @Inject
     GoalMapper goalMapper;
 
@@ -45,6 +64,15 @@ public class GoalServicePg implements GoalService {
     @Inject
     SecurityUtils securityUtils;
 
+    @Inject
+    GoalResponseCache responseCache;
+
+    @Inject
+    Event<GoalDataChangedEvent> dataChanged;
+
+    @Inject
+    OutboxWriter outbox;
+
     @Override
     @Transactional
     public GoalResponse create(GoalRequest request) {
@@ -62,83 +90,149 @@ public class GoalServicePg implements GoalService {
         setupCustomFieldAnswers(goal);
 
         goalRepository.persist(goal);
+        GoalResponse response = goalMapper.toResponse(goal);
+        outbox.append(OutboxEventType.GOAL_CREATED, goal.getId(), userId, response);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
         log.info("Created goal with id: {} for user: {}", goal.getId(), userId);
 
-        return goalMapper.toResponse(goal);
+        return response;
     }
 
     @Override
     @Transactional
-    public GoalResponse patch(UUID id, GoalRequest request) {
+    public GoalResponse patch(UUID id, GoalRequest request, Long expectedVersion) {
         UUID userId = getCurrentUserId();
         log.debug("Patching goal: {} for user: {}", id, userId);
 
         Goal existingGoal = goalRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Goal", id));
+        OptimisticLocking.checkVersion("Goal", id, existingGoal.getVersion(), expectedVersion);
 
         goalMapper.patchEntity(request, existingGoal);
+        // Flush so a concurrent update fails here and the response carries the new version
+        goalRepository.flush();
+        GoalResponse response = goalMapper.toResponse(existingGoal);
+        outbox.append(OutboxEventType.GOAL_UPDATED, id, userId, response);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
 
         log.info("Goal patched: {} for user: {}", id, userId);
-        return goalMapper.toResponse(existingGoal);
+        return response;
     }
 
     @Override
+    @ReadOnly
     public GoalResponse findById(UUID id) {
         UUID userId = getCurrentUserId();
         log.debug("Finding goal: {} for user: {}", id, userId);
 
-        Goal goal = goalRepository.findByIdAndUserId(id, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Goal", id));
+        return responseCache.get(userId, "goal:" + id, responseCache.typeOf(GoalResponse.class), () ->
+                goalRepository.findByIdAndUserId(id, userId)
+                        .map(goalMapper::toResponse)
+                        .orElseThrow(() -> new ResourceNotFoundException("Goal", id)));
+    }
 
-        return goalMapper.toResponse(goal);
+    @Override
+    @ReadOnly
+    public List<GoalBatchGetResult> findByIds(List<UUID> ids) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding {} goals for user: {}", ids.size(), userId);
+
+        Map<UUID, GoalResponse> found = goalRepository.findByIdsAndUserId(ids, userId).stream()
+                .map(goalMapper::toResponse)
+                .collect(Collectors.toMap(GoalResponse::id, Function.identity()));
+        return ids.stream().map(id -> GoalBatchGetResult.of(id, found.get(id))).toList();
     }
 
     @Override
+    @ReadOnly
     public PageResponse<GoalResponse> findAll(int page, int size, String sortBy, String sortDirection) {
         UUID userId = getCurrentUserId();
         log.debug("Finding all goals for user: {}", userId);
 
-        Sort sort = createSort(sortBy, sortDirection);
-        List<Goal> goals = goalRepository.findByUserId(userId, Page.of(page, size), sort);
-        long totalElements = goalRepository.countByUserId(userId);
+        String cacheKey = "goals:" + page + ":" + size + ":" + sortBy + ":" + sortDirection;
+        return responseCache.get(userId, cacheKey, responseCache.pageOf(GoalResponse.class), () -> {
+            Sort sort = createSort(sortBy, sortDirection);
+            List<Goal> goals = goalRepository.findByUserId(userId, Page.of(page, size), sort);
+            long totalElements = goalRepository.countByUserId(userId);
 
-        List<GoalResponse> responses = goals.stream()
-                .map(goalMapper::toResponse)
-                .toList();
+            List<GoalResponse> responses = goals.stream()
+                    .map(goalMapper::toResponse)
+                    .toList();
 
-        return PageResponse.of(responses, totalElements, page, size);
+            return PageResponse.of(responses, totalElements, page, size);
+        });
     }
 
     @Override
+    @ReadOnly
     public PageResponse<GoalResponse> findByStatus(GoalStatus status, int page, int size, String sortBy, String sortDirection) {
         UUID userId = getCurrentUserId();
         log.debug("Finding goals with status: {} for user: {}", status, userId);
 
-        Sort sort = createSort(sortBy, sortDirection);
-        List<Goal> goals = goalRepository.findByUserIdAndStatus(userId, status, Page.of(page, size), sort);
-        long totalElements = goalRepository.countByUserIdAndStatus(userId, status);
+        String cacheKey = "goals:status:" + status + ":" + page + ":" + size + ":" + sortBy + ":" + sortDirection;
+        return responseCache.get(userId, cacheKey, responseCache.pageOf(GoalResponse.class), () -> {
+            Sort sort = createSort(sortBy, sortDirection);
+            List<Goal> goals = goalRepository.findByUserIdAndStatus(userId, status, Page.of(page, size), sort);
+            long totalElements = goalRepository.countByUserIdAndStatus(userId, status);
 
-        List<GoalResponse> responses = goals.stream()
-                .map(goalMapper::toResponse)
-                .toList();
+            List<GoalResponse> responses = goals.stream()
+                    .map(goalMapper::toResponse)
+                    .toList();
 
-        return PageResponse.of(responses, totalElements, page, size);
+            return PageResponse.of(responses, totalElements, page, size);
+        });
     }
 
     @Override
+    @ReadOnly
     public PageResponse<GoalResponse> findByTypeId(UUID typeId, int page, int size, String sortBy, String sortDirection) {
         UUID userId = getCurrentUserId();
         log.debug("Finding goals with type ID: {} for user: {}", typeId, userId);
 
-        Sort sort = createSort(sortBy, sortDirection);
-        List<Goal> goals = goalRepository.findByUserIdAndTypeId(userId, typeId, Page.of(page, size), sort);
-        long totalElements = goalRepository.countByUserIdAndTypeId(userId, typeId);
+        String cacheKey = "goals:type:" + typeId + ":" + page + ":" + size + ":" + sortBy + ":" + sortDirection;
+        return responseCache.get(userId, cacheKey, responseCache.pageOf(GoalResponse.class), () -> {
+            Sort sort = createSort(sortBy, sortDirection);
+            List<Goal> goals = goalRepository.findByUserIdAndTypeId(userId, typeId, Page.of(page, size), sort);
+            long totalElements = goalRepository.countByUserIdAndTypeId(userId, typeId);
 
-        List<GoalResponse> responses = goals.stream()
-                .map(goalMapper::toResponse)
-                .toList();
+            List<GoalResponse> responses = goals.stream()
+                    .map(goalMapper::toResponse)
+                    .toList();
+
+            return PageResponse.of(responses, totalElements, page, size);
+        });
+    }
+
+    @Override
+    @ReadOnly
+    public GoalResponse findArchivedById(UUID id) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding archived goal: {} for user: {}", id, userId);
+
+        return responseCache.get(userId, "archived:" + id, responseCache.typeOf(GoalResponse.class), () ->
+                archivedGoalRepository.findByIdAndUserId(id, userId)
+                        .map(goalMapper::toResponse)
+                        .orElseThrow(() -> new ResourceNotFoundException("Goal", id)));
+    }
+
+    @Override
+    @ReadOnly
+    public PageResponse<GoalResponse> findArchived(int page, int size, String sortBy, String sortDirection) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding archived goals for user: {}", userId);
+
+        String cacheKey = "archived:" + page + ":" + size + ":" + sortBy + ":" + sortDirection;
+        return responseCache.get(userId, cacheKey, responseCache.pageOf(GoalResponse.class), () -> {
+            Sort sort = createSort(sortBy, sortDirection);
+            List<ArchivedGoal> goals = archivedGoalRepository.findByUserId(userId, Page.of(page, size), sort);
+            long totalElements = archivedGoalRepository.countByUserId(userId);
 
-        return PageResponse.of(responses, totalElements, page, size);
+            List<GoalResponse> responses = goals.stream()
+                    .map(goalMapper::toResponse)
+                    .toList();
+
+            return PageResponse.of(responses, totalElements, page, size);
+        });
     }
 
     @Override
@@ -151,8 +245,29 @@ public class GoalServicePg implements GoalService {
             throw new ResourceNotFoundException("Goal", id);
         }
 
-        goalRepository.deleteByIdAndUserId(id, userId);
-        log.info("Deleted goal: {} for user: {}", id, userId);
+        // Hides the subtree at once; the rows themselves are removed in batches by SoftDeletePurger
+        int marked = goalRepository.softDeleteSubtree(id, userId);
+        outbox.append(OutboxEventType.GOAL_DELETED, id, userId, Map.of("id", id, "userId", userId));
+        dataChanged.fire(new GoalDataChangedEvent(userId));
+        log.info("Deleted goal: {} ({} goals in subtree) for user: {}", id, marked, userId);
+    }
+
+    @Override
+    @Transactional
+    public GoalResponse cloneSubtree(UUID id) {
+        UUID userId = getCurrentUserId();
+        log.debug("Cloning goal subtree: {} for user: {}", id, userId);
+
+        // Copies goals, answers and outbox events in one statement instead of one round trip per row
+        UUID cloneId = goalRepository.cloneSubtree(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Goal", id));
+        GoalResponse response = goalRepository.findByIdAndUserId(cloneId, userId)
+                .map(goalMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Goal", cloneId));
+        dataChanged.fire(new GoalDataChangedEvent(userId));
+
+        log.info("Cloned goal subtree: {} into {} for user: {}", id, cloneId, userId);
+        return response;
     }
 
     private UUID getCurrentUserId() {
@@ -176,12 +291,22 @@ public class GoalServicePg implements GoalService {
      */
     private void setupCustomFieldAnswers(Goal goal) {
         if (goal.getCustomAnswers() != null && !goal.getCustomAnswers().isEmpty()) {
+            // One query for the type's definitions instead of one lookup per answer
+            Map<UUID, CustomFieldDefinition> typeDefinitions = fieldDefinitionRepository.findByGoalTypeId(goal.getType().getId())
+                    .stream()
+                    .collect(Collectors.toMap(CustomFieldDefinition::getId, Function.identity()));
+
             goal.getCustomAnswers().forEach(answer -> {
                 answer.setGoal(goal);
+                answer.setUserId(goal.getUserId());
 
                 // Validate that field definition exists and belongs to the goal's type
-                CustomFieldDefinition definition = fieldDefinitionRepository.findByIdOptional(answer.getFieldDefinition().getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("CustomFieldDefinition", answer.getFieldDefinition().getId()));
+                UUID definitionId = answer.getFieldDefinition().getId();
+                CustomFieldDefinition definition = typeDefinitions.get(definitionId);
+                if (definition == null) {
+                    definition = fieldDefinitionRepository.findActiveById(definitionId)
+                            .orElseThrow(() -> new ResourceNotFoundException("CustomFieldDefinition", definitionId));
+                }
 
                 if (!definition.getGoalType().getId().equals(goal.getType().getId())) {
                     throw new BusinessException(
@@ -1,26 +1,37 @@
 package com.axis.goal.service.pg;
 
 import com.axis.common.exception.ResourceNotFoundException;
+import com.axis.common.metrics.MeasuredService;
 import com.axis.common.security.SecurityUtils;
+import com.axis.goal.cache.GoalDataChangedEvent;
+import com.axis.goal.cache.GoalResponseCache;
 import com.axis.goal.mapper.GoalTypeMapper;
 import com.axis.goal.model.dto.GoalTypeRequest;
 import com.axis.goal.model.dto.GoalTypeResponse;
 import com.axis.goal.model.dto.PageResponse;
 import com.axis.goal.model.entity.GoalType;
+import com.axis.goal.outbox.OutboxEventType;
+import com.axis.goal.outbox.OutboxWriter;
+import com.axis.goal.repository.GoalRepository;
 import com.axis.goal.repository.GoalTypeRepository;
 import com.axis.goal.service.GoalTypeService;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
 @ApplicationScoped
+@MeasuredService
 public class GoalTypeServicePg implements GoalTypeService {
 
     @Inject
@@ -29,9 +40,21 @@ public class GoalTypeServicePg implements GoalTypeService {
     @Inject
     GoalTypeMapper goalTypeMapper;
 
+    @Inject
+    GoalRepository goalRepository;
+
     @Inject
     SecurityUtils securityUtils;
 
+    @Inject
+    GoalResponseCache responseCache;
+
+    @Inject
+    Event<GoalDataChangedEvent> dataChanged;
+
+    @Inject
+    OutboxWriter outbox;
+
     @Override
     @Transactional
     public GoalTypeResponse create(GoalTypeRequest request) {
@@ -51,25 +74,33 @@ public class GoalTypeServicePg implements GoalTypeService {
         }
 
         goalTypeRepository.persist(goalType);
+        GoalTypeResponse response = goalTypeMapper.toResponse(goalType);
+        outbox.append(OutboxEventType.GOAL_TYPE_CREATED, goalType.getId(), userId, response);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
         log.info("Goal type created with ID: {} and level {} for user: {}",
                  goalType.getId(), goalType.getLevelNumber(), userId);
 
-        return goalTypeMapper.toResponse(goalType);
+        return response;
     }
 
     @Override
     @Transactional
-    public GoalTypeResponse patch(UUID id, GoalTypeRequest request) {
+    public GoalTypeResponse patch(UUID id, GoalTypeRequest request, Long expectedVersion) {
         UUID userId = getCurrentUserId();
         log.debug("Patching goal type: {} for user: {}", id, userId);
 
         GoalType existingType = goalTypeRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("GoalType", id));
+        OptimisticLocking.checkVersion("GoalType", id, existingType.getVersion(), expectedVersion);
 
         goalTypeMapper.patchEntity(request, existingType);
+        goalTypeRepository.flush();
+        GoalTypeResponse response = goalTypeMapper.toResponse(existingType);
+        outbox.append(OutboxEventType.GOAL_TYPE_UPDATED, id, userId, response);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
 
         log.info("Goal type patched: {} for user: {}", id, userId);
-        return goalTypeMapper.toResponse(existingType);
+        return response;
     }
 
     @Override
@@ -77,9 +108,10 @@ public class GoalTypeServicePg implements GoalTypeService {
         UUID userId = getCurrentUserId();
         log.debug("Finding goal type: {} for user: {}", id, userId);
 
-        return goalTypeRepository.findByIdAndUserId(id, userId)
-                .map(goalTypeMapper::toResponse)
-                .orElseThrow(() -> new ResourceNotFoundException("GoalType", id));
+        return responseCache.get(userId, "goal-type:" + id, responseCache.typeOf(GoalTypeResponse.class), () ->
+                goalTypeRepository.findByIdAndUserId(id, userId)
+                        .map(goalTypeMapper::toResponse)
+                        .orElseThrow(() -> new ResourceNotFoundException("GoalType", id)));
     }
 
     @Override
@@ -87,15 +119,18 @@ public class GoalTypeServicePg implements GoalTypeService {
         UUID userId = getCurrentUserId();
         log.debug("Getting all goal types for user: {}", userId);
 
-        Sort sort = createSort(sortBy, sortDirection);
-        List<GoalType> goalTypes = goalTypeRepository.findByUserId(userId, Page.of(page, size), sort);
-        long totalElements = goalTypeRepository.countByUserId(userId);
+        String cacheKey = "goal-types:" + page + ":" + size + ":" + sortBy + ":" + sortDirection;
+        return responseCache.get(userId, cacheKey, responseCache.pageOf(GoalTypeResponse.class), () -> {
+            Sort sort = createSort(sortBy, sortDirection);
+            List<GoalType> goalTypes = goalTypeRepository.findByUserId(userId, Page.of(page, size), sort);
+            long totalElements = goalTypeRepository.countByUserId(userId);
 
-        List<GoalTypeResponse> responses = goalTypes.stream()
-                .map(goalTypeMapper::toResponse)
-                .toList();
+            List<GoalTypeResponse> responses = goalTypes.stream()
+                    .map(goalTypeMapper::toResponse)
+                    .toList();
 
-        return PageResponse.of(responses, totalElements, page, size);
+            return PageResponse.of(responses, totalElements, page, size);
+        });
     }
 
     @Override
@@ -111,9 +146,13 @@ public class GoalTypeServicePg implements GoalTypeService {
         Integer deletedLevel = goalType.getLevelNumber();
         log.debug("Deleting goal type with level: {}", deletedLevel);
 
-        // Delete goal type
-        goalTypeRepository.deleteByIdAndUserId(id, userId);
-        log.info("Goal type deleted: {} with related data for user: {}", id, userId);
+        // Hide the type and its goals at once; the rows themselves are removed in batches by SoftDeletePurger
+        goalType.setDeletedAt(LocalDateTime.now(ZoneOffset.UTC));
+        int markedGoals = goalRepository.softDeleteByTypeId(id, userId);
+        outbox.append(OutboxEventType.GOAL_TYPE_DELETED, id, userId,
+                Map.of("id", id, "userId", userId, "levelNumber", deletedLevel));
+        dataChanged.fire(new GoalDataChangedEvent(userId));
+        log.info("Goal type deleted: {} with {} goals for user: {}", id, markedGoals, userId);
 
         // Recalculate levels for all following goal types (decrement by 1)
         var followingGoalTypes = goalTypeRepository
@@ -127,6 +166,32 @@ public class GoalTypeServicePg implements GoalTypeService {
         }
     }
 
+    @Override
+    @Transactional
+    public GoalTypeResponse clone(UUID id, String title, boolean includeGoals) {
+        UUID userId = getCurrentUserId();
+        log.debug("Cloning goal type: {} (includeGoals={}) for user: {}", id, includeGoals, userId);
+
+        GoalType source = goalTypeRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("GoalType", id));
+        String cloneTitle = title == null || title.isBlank() ? source.getTitle() + " (copy)" : title;
+        int level = goalTypeRepository.findMaxLevelNumberByUserId(userId) + 1;
+
+        // Definitions, goals, answers and their outbox events are copied by a single statement
+        UUID cloneId = UUID.randomUUID();
+        int copiedGoals = goalTypeRepository.cloneWithGoals(id, cloneId, cloneTitle, level, userId, includeGoals);
+        GoalType clone = goalTypeRepository.findByIdAndUserId(cloneId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("GoalType", cloneId));
+
+        GoalTypeResponse response = goalTypeMapper.toResponse(clone);
+        outbox.append(OutboxEventType.GOAL_TYPE_CREATED, cloneId, userId, response);
+        dataChanged.fire(new GoalDataChangedEvent(userId));
+        log.info("Goal type {} cloned into {} with level {} and {} goals for user: {}",
+                 id, cloneId, level, copiedGoals, userId);
+
+        return response;
+    }
+
     private UUID getCurrentUserId() {
         return securityUtils.getCurrentUserIdAsUUID()
                 .orElseThrow(() -> new IllegalStateException("User not authorized"));
@@ -0,0 +1,25 @@
+package com.axis.goal.service.pg;
+
+import com.axis.common.exception.BusinessException;
+import jakarta.ws.rs.core.Response;
+
+import java.util.UUID;
+
+/**
+ * If-Match check shared by the services' update methods. Concurrent updates that both pass it are still caught
+ * by Hibernate's {@code @Version} check at flush, which is mapped to 412 as well.
+ */
+final class OptimisticLocking {
+
+    private OptimisticLocking() {
+    }
+
+    static void checkVersion(String resource, UUID id, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new BusinessException(
+                    resource + " " + id + " was modified concurrently (version " + currentVersion + ", expected " + expectedVersion + ")",
+                    Response.Status.PRECONDITION_FAILED
+            );
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.axis.goal.service.reactive;
+
+import com.axis.goal.model.dto.GoalBatchGetResult;
+import com.axis.goal.model.dto.GoalRequest;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.PageResponse;
+import com.axis.goal.model.entity.Goal.GoalStatus;
+import com.axis.goal.service.GoalService;
+import com.axis.goal.service.ReactiveGoalService;
+import io.quarkus.arc.profile.IfBuildProfile;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link GoalService} of the {@code reactive} build for callers that run on virtual threads (GraphQL and the
+ * idempotent create). Each call parks its virtual thread until the {@link ReactiveGoalService} completes.
+ */
+@ApplicationScoped
+@IfBuildProfile("reactive")
+public class BlockingGoalService implements GoalService {
+
+    @Inject
+    ReactiveGoalService reactive;
+
+    @Override
+    public GoalResponse create(GoalRequest request) {
+        return reactive.create(request).await().indefinitely();
+    }
+
+    @Override
+    public GoalResponse patch(UUID id, GoalRequest request, Long expectedVersion) {
+        return reactive.patch(id, request, expectedVersion).await().indefinitely();
+    }
+
+    @Override
+    public GoalResponse findById(UUID id) {
+        return reactive.findById(id).await().indefinitely();
+    }
+
+    @Override
+    public List<GoalBatchGetResult> findByIds(List<UUID> ids) {
+        return reactive.findByIds(ids).await().indefinitely();
+    }
+
+    @Override
+    public PageResponse<GoalResponse> findAll(int page, int size, String sortBy, String sortDirection) {
+        return reactive.findAll(page, size, sortBy, sortDirection).await().indefinitely();
+    }
+
+    @Override
+    public PageResponse<GoalResponse> findByStatus(GoalStatus status, int page, int size, String sortBy, String sortDirection) {
+        return reactive.findByStatus(status, page, size, sortBy, sortDirection).await().indefinitely();
+    }
+
+    @Override
+    public PageResponse<GoalResponse> findByTypeId(UUID typeId, int page, int size, String sortBy, String sortDirection) {
+        return reactive.findByTypeId(typeId, page, size, sortBy, sortDirection).await().indefinitely();
+    }
+
+    @Override
+    public GoalResponse findArchivedById(UUID id) {
+        return reactive.findArchivedById(id).await().indefinitely();
+    }
+
+    @Override
+    public PageResponse<GoalResponse> findArchived(int page, int size, String sortBy, String sortDirection) {
+        return reactive.findArchived(page, size, sortBy, sortDirection).await().indefinitely();
+    }
+
+    @Override
+    public GoalResponse cloneSubtree(UUID id) {
+        return reactive.cloneSubtree(id).await().indefinitely();
+    }
+
+    @Override
+    public void delete(UUID id) {
+        reactive.delete(id).await().indefinitely();
+    }
+}
@@ -0,0 +1,437 @@
+package com.axis.goal.service.reactive;
+
+import com.axis.common.exception.BusinessException;
+import com.axis.common.exception.ResourceNotFoundException;
+import com.axis.common.security.SecurityUtils;
+import com.axis.goal.cache.GoalDataChangedEvent;
+import com.axis.goal.model.dto.CustomFieldAnswerRequest;
+import com.axis.goal.model.dto.GoalBatchGetResult;
+import com.axis.goal.model.dto.GoalRequest;
+import com.axis.goal.model.dto.GoalResponse;
+import com.axis.goal.model.dto.PageResponse;
+import com.axis.goal.model.entity.Goal.GoalStatus;
+import com.axis.goal.outbox.OutboxEventType;
+import com.axis.goal.outbox.OutboxWriter;
+import com.axis.goal.repository.GoalRepository;
+import com.axis.goal.service.ReactiveGoalService;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlClient;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Non-blocking {@link ReactiveGoalService} built on the Vert.x reactive PostgreSQL client.
+ * <p>
+ * Selected instead of {@code GoalServicePg} when the application is built with the {@code reactive} profile.
+ * {@code ReactiveGoalController} returns these {@link Uni}s from the event loop, so no thread is held while a
+ * query is in flight; {@link BlockingGoalService} awaits them for the callers that stay on virtual threads.
+ */
+@Slf4j
+@ApplicationScoped
+@IfBuildProfile("reactive")
+public class GoalServiceReactive implements ReactiveGoalService {
+
+    private static final String GOAL_COLUMNS =
+            "id, title, description, goal_type_id, status, user_id, created_at, updated_at, version";
+
+    // Sort properties exposed by the API mapped to columns; anything else falls back to created_at
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "title", "title",
+            "status", "status"
+    );
+
+    @Inject
+    Pool client;
+
+    @Inject
+    SecurityUtils securityUtils;
+
+    @Inject
+    Event<GoalDataChangedEvent> dataChanged;
+
+    @Inject
+    OutboxWriter outbox;
+
+    @Override
+    public Uni<GoalResponse> create(GoalRequest request) {
+        UUID userId = getCurrentUserId();
+        log.debug("Creating new goal for user: {}", userId);
+
+        UUID goalId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+        return client.withTransaction(connection ->
+                connection.preparedQuery("SELECT title FROM goal_types WHERE id = $1 AND user_id = $2 AND deleted_at IS NULL")
+                        .execute(Tuple.of(request.typeId(), userId))
+                        .onItem().transformToUni(types -> {
+                            if (types.rowCount() == 0) {
+                                throw new ResourceNotFoundException("GoalType", request.typeId());
+                            }
+                            String typeTitle = types.iterator().next().getString("title");
+                            return validateCustomAnswers(connection, request, typeTitle);
+                        })
+                        .onItem().transformToUni(ignored -> connection
+                                .preparedQuery("INSERT INTO goals (id, title, description, goal_type_id, status, user_id, created_at, updated_at) "
+                                        + "VALUES ($1, $2, $3, $4, $5, $6, $7, $7) RETURNING " + GOAL_COLUMNS)
+                                .execute(Tuple.from(Arrays.asList(goalId, request.title(), request.description(),
+                                        request.typeId(), request.status().name(), userId, now))))
+                        .onItem().transformToUni(inserted -> {
+                            GoalResponse created = toResponse(inserted.iterator().next());
+                            return insertCustomAnswers(connection, goalId, userId, request)
+                                    .chain(() -> appendOutbox(connection, OutboxEventType.GOAL_CREATED, goalId, userId, created))
+                                    .replaceWith(created);
+                        })
+                )
+                .call(() -> fireDataChanged(userId))
+                .invoke(() -> log.info("Created goal with id: {} for user: {}", goalId, userId));
+    }
+
+    @Override
+    public Uni<GoalResponse> patch(UUID id, GoalRequest request, Long expectedVersion) {
+        UUID userId = getCurrentUserId();
+        log.debug("Patching goal: {} for user: {}", id, userId);
+
+        return client.withTransaction(connection -> connection.preparedQuery("""
+                        UPDATE goals
+                        SET title = COALESCE($3, title),
+                            description = COALESCE($4, description),
+                            status = COALESCE($5, status),
+                            updated_at = $6,
+                            version = version + 1
+                        WHERE id = $1 AND user_id = $2 AND deleted_at IS NULL AND ($7::bigint IS NULL OR version = $7)
+                        RETURNING\s""" + GOAL_COLUMNS)
+                .execute(Tuple.from(Arrays.asList(id, userId, request.title(), request.description(),
+                        request.status() == null ? null : request.status().name(), LocalDateTime.now(ZoneOffset.UTC),
+                        expectedVersion)))
+                .onItem().transformToUni(rows -> {
+                    if (rows.rowCount() == 0) {
+                        return Uni.createFrom().<GoalResponse>nullItem();
+                    }
+                    GoalResponse updated = toResponse(rows.iterator().next());
+                    return appendOutbox(connection, OutboxEventType.GOAL_UPDATED, id, userId, updated).replaceWith(updated);
+                })
+                )
+                .onItem().ifNull().switchTo(() -> versionMismatchOrNotFound(id, userId, expectedVersion))
+                .call(() -> fireDataChanged(userId))
+                .invoke(() -> log.info("Goal patched: {} for user: {}", id, userId));
+    }
+
+    @Override
+    public Uni<GoalResponse> findById(UUID id) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding goal: {} for user: {}", id, userId);
+
+        return client.preparedQuery("SELECT " + GOAL_COLUMNS + " FROM goals WHERE id = $1 AND user_id = $2 AND deleted_at IS NULL")
+                .execute(Tuple.of(id, userId))
+                .map(rows -> single(rows, id));
+    }
+
+    @Override
+    public Uni<List<GoalBatchGetResult>> findByIds(List<UUID> ids) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding {} goals for user: {}", ids.size(), userId);
+
+        return client.preparedQuery("SELECT " + GOAL_COLUMNS
+                        + " FROM goals WHERE id = ANY($1) AND user_id = $2 AND deleted_at IS NULL")
+                .execute(Tuple.of(ids.toArray(new UUID[0]), userId))
+                .map(rows -> {
+                    Map<UUID, GoalResponse> found = new HashMap<>();
+                    for (Row row : rows) {
+                        GoalResponse goal = toResponse(row);
+                        found.put(goal.id(), goal);
+                    }
+                    return ids.stream().map(id -> GoalBatchGetResult.of(id, found.get(id))).toList();
+                });
+    }
+
+    @Override
+    public Uni<PageResponse<GoalResponse>> findAll(int page, int size, String sortBy, String sortDirection) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding all goals for user: {}", userId);
+
+        return findPage("goals", "deleted_at IS NULL AND user_id = $1", Tuple.of(userId), page, size, sortBy, sortDirection);
+    }
+
+    @Override
+    public Uni<PageResponse<GoalResponse>> findByStatus(GoalStatus status, int page, int size, String sortBy, String sortDirection) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding goals with status: {} for user: {}", status, userId);
+
+        return findPage("goals", "deleted_at IS NULL AND user_id = $1 AND status = $2", Tuple.of(userId, status.name()),
+                page, size, sortBy, sortDirection);
+    }
+
+    @Override
+    public Uni<PageResponse<GoalResponse>> findByTypeId(UUID typeId, int page, int size, String sortBy, String sortDirection) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding goals with type ID: {} for user: {}", typeId, userId);
+
+        return findPage("goals", "deleted_at IS NULL AND user_id = $1 AND goal_type_id = $2", Tuple.of(userId, typeId),
+                page, size, sortBy, sortDirection);
+    }
+
+    @Override
+    public Uni<GoalResponse> findArchivedById(UUID id) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding archived goal: {} for user: {}", id, userId);
+
+        return client.preparedQuery("SELECT " + GOAL_COLUMNS + " FROM goal_archive WHERE id = $1 AND user_id = $2")
+                .execute(Tuple.of(id, userId))
+                .map(rows -> single(rows, id));
+    }
+
+    @Override
+    public Uni<PageResponse<GoalResponse>> findArchived(int page, int size, String sortBy, String sortDirection) {
+        UUID userId = getCurrentUserId();
+        log.debug("Finding archived goals for user: {}", userId);
+
+        return findPage("goal_archive", "user_id = $1", Tuple.of(userId), page, size, sortBy, sortDirection);
+    }
+
+    @Override
+    public Uni<GoalResponse> cloneSubtree(UUID id) {
+        UUID userId = getCurrentUserId();
+        log.debug("Cloning goal subtree: {} for user: {}", id, userId);
+
+        // Same single statement as GoalRepository.cloneSubtree, returning the copied root instead of its id
+        return client.withTransaction(connection -> connection
+                .preparedQuery("""
+                        WITH RECURSIVE subtree AS (
+                            SELECT id FROM goals WHERE id = $1 AND user_id = $2 AND deleted_at IS NULL
+                            UNION ALL
+                            SELECT g.id FROM goals g JOIN subtree s ON g.parent_id = s.id
+                            WHERE g.user_id = $2 AND g.deleted_at IS NULL
+                        ),
+                        goal_map AS MATERIALIZED (
+                            SELECT id AS old_id, gen_random_uuid() AS new_id FROM subtree
+                        ),
+                        new_goals AS (
+                            INSERT INTO goals (id, title, description, goal_type_id, status, parent_id, user_id,
+                                               created_at, updated_at, version)
+                            SELECT m.new_id, g.title, g.description, g.goal_type_id, g.status,
+                                   COALESCE(p.new_id, g.parent_id), g.user_id,
+                                   timezone('UTC', now()), timezone('UTC', now()), 0
+                            FROM goal_map m
+                            JOIN goals g ON g.id = m.old_id AND g.user_id = $2
+                            LEFT JOIN goal_map p ON p.old_id = g.parent_id
+                            RETURNING *
+                        ),
+                        events AS (
+                            INSERT INTO outbox_events (event_type, aggregate_id, user_id, payload, created_at)
+                            SELECT 'GOAL_CREATED', n.id, n.user_id, %s, timezone('UTC', now())
+                            FROM new_goals n
+                        ),
+                        answers AS (
+                            INSERT INTO custom_field_answers (id, field_definition_id, field_value, goal_id, user_id, version)
+                            SELECT gen_random_uuid(), a.field_definition_id, a.field_value, m.new_id, a.user_id, 0
+                            FROM custom_field_answers a
+                            JOIN goal_map m ON m.old_id = a.goal_id
+                            WHERE a.user_id = $2
+                        )
+                        SELECT n.id, n.title, n.description, n.goal_type_id, n.status, n.user_id,
+                               n.created_at, n.updated_at, n.version
+                        FROM new_goals n JOIN goal_map m ON m.new_id = n.id
+                        WHERE m.old_id = $1""".formatted(GoalRepository.GOAL_CREATED_PAYLOAD))
+                .execute(Tuple.of(id, userId))
+                )
+                .map(rows -> single(rows, id))
+                .call(() -> fireDataChanged(userId))
+                .invoke(copy -> log.info("Cloned goal subtree: {} into {} for user: {}", id, copy.id(), userId));
+    }
+
+    @Override
+    public Uni<Void> delete(UUID id) {
+        UUID userId = getCurrentUserId();
+        log.debug("Deleting goal: {} for user: {}", id, userId);
+
+        // Marks the subtree as deleted like GoalRepository.softDeleteSubtree; SoftDeletePurger removes the rows
+        return client.withTransaction(connection -> connection
+                .preparedQuery("""
+                        WITH RECURSIVE subtree AS (
+                            SELECT id FROM goals WHERE id = $1 AND user_id = $2 AND deleted_at IS NULL
+                            UNION ALL
+                            SELECT g.id FROM goals g JOIN subtree s ON g.parent_id = s.id
+                            WHERE g.user_id = $2 AND g.deleted_at IS NULL
+                        )
+                        UPDATE goals SET deleted_at = timezone('UTC', now()), version = version + 1
+                        WHERE user_id = $2 AND id IN (SELECT id FROM subtree)""")
+                .execute(Tuple.of(id, userId))
+                .onItem().transformToUni(rows -> rows.rowCount() == 0
+                        ? Uni.createFrom().item(false)
+                        : appendOutbox(connection, OutboxEventType.GOAL_DELETED, id, userId, Map.of("id", id, "userId", userId))
+                                .replaceWith(true))
+                )
+                .onItem().transformToUni(deleted -> deleted
+                        ? fireDataChanged(userId)
+                        : Uni.createFrom().<Void>failure(new ResourceNotFoundException("Goal", id)))
+                .invoke(() -> log.info("Deleted goal: {} for user: {}", id, userId));
+    }
+
+    /**
+     * Tells apart a conditional update that missed because of the version from one on a missing goal
+     */
+    private <T> Uni<T> versionMismatchOrNotFound(UUID id, UUID userId, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Uni.createFrom().failure(new ResourceNotFoundException("Goal", id));
+        }
+        return client.preparedQuery("SELECT version FROM goals WHERE id = $1 AND user_id = $2 AND deleted_at IS NULL")
+                .execute(Tuple.of(id, userId))
+                .onItem().transformToUni(rows -> Uni.createFrom().failure(rows.rowCount() > 0
+                        ? new BusinessException(
+                                "Goal " + id + " was modified concurrently (version " + rows.iterator().next().getLong("version")
+                                        + ", expected " + expectedVersion + ")",
+                                Response.Status.PRECONDITION_FAILED)
+                        : new ResourceNotFoundException("Goal", id)));
+    }
+
+    /**
+     * Fires {@link GoalDataChangedEvent} once the write has committed. Its observers invalidate caches through
+     * blocking clients, so they run on a worker thread rather than the event loop; without a JTA transaction the
+     * {@code AFTER_SUCCESS} observers are notified immediately.
+     */
+    private Uni<Void> fireDataChanged(UUID userId) {
+        return Uni.createFrom().voidItem()
+                .emitOn(Infrastructure.getDefaultWorkerPool())
+                .invoke(() -> dataChanged.fire(new GoalDataChangedEvent(userId)));
+    }
+
+    private GoalResponse single(RowSet<Row> rows, UUID id) {
+        if (rows.rowCount() == 0) {
+            throw new ResourceNotFoundException("Goal", id);
+        }
+        return toResponse(rows.iterator().next());
+    }
+
+    /**
+     * Runs the page query and the count query concurrently on two pooled connections
+     */
+    private Uni<PageResponse<GoalResponse>> findPage(String table, String where, Tuple params, int page, int size,
+                                                String sortBy, String sortDirection) {
+        String direction = "asc".equalsIgnoreCase(sortDirection) ? "ASC" : "DESC";
+        String column = SORT_COLUMNS.getOrDefault(sortBy, "created_at");
+        int limitIndex = params.size() + 1;
+
+        Tuple pageParams = Tuple.tuple();
+        for (int i = 0; i < params.size(); i++) {
+            pageParams.addValue(params.getValue(i));
+        }
+        pageParams.addInteger(size).addLong((long) page * size);
+
+        Uni<List<GoalResponse>> content = client
+                .preparedQuery("SELECT " + GOAL_COLUMNS + " FROM " + table + " WHERE " + where
+                        + " ORDER BY " + column + " " + direction
+                        + " LIMIT $" + limitIndex + " OFFSET $" + (limitIndex + 1))
+                .execute(pageParams)
+                .map(rows -> {
+                    List<GoalResponse> responses = new ArrayList<>(rows.rowCount());
+                    rows.forEach(row -> responses.add(toResponse(row)));
+                    return responses;
+                });
+        Uni<Long> total = client.preparedQuery("SELECT count(*) FROM " + table + " WHERE " + where)
+                .execute(params)
+                .map(rows -> rows.iterator().next().getLong(0));
+
+        return Uni.combine().all().unis(content, total)
+                .with((responses, totalElements) -> PageResponse.of(responses, totalElements, page, size));
+    }
+
+    /**
+     * Loads all referenced field definitions in one query and checks they belong to the goal's type
+     */
+    private Uni<Void> validateCustomAnswers(SqlClient connection, GoalRequest request, String typeTitle) {
+        if (request.customAnswers() == null || request.customAnswers().isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        UUID[] definitionIds = request.customAnswers().stream()
+                .map(CustomFieldAnswerRequest::fieldDefinitionId)
+                .toArray(UUID[]::new);
+
+        return connection.preparedQuery("SELECT id, label, goal_type_id FROM custom_field_definitions WHERE id = ANY($1)")
+                .execute(Tuple.of(definitionIds))
+                .map(rows -> {
+                    Map<UUID, Row> definitions = new HashMap<>();
+                    rows.forEach(row -> definitions.put(row.getUUID("id"), row));
+
+                    for (UUID definitionId : definitionIds) {
+                        Row definition = definitions.get(definitionId);
+                        if (definition == null) {
+                            throw new ResourceNotFoundException("CustomFieldDefinition", definitionId);
+                        }
+                        if (!definition.getUUID("goal_type_id").equals(request.typeId())) {
+                            throw new BusinessException(
+                                    "Custom field '" + definition.getString("label") + "' does not belong to goal type '" + typeTitle + "'",
+                                    Response.Status.BAD_REQUEST
+                            );
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private Uni<Void> insertCustomAnswers(SqlClient connection, UUID goalId, UUID userId, GoalRequest request) {
+        if (request.customAnswers() == null || request.customAnswers().isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        List<Tuple> batch = request.customAnswers().stream()
+                .map(answer -> Tuple.of(UUID.randomUUID(), answer.fieldDefinitionId(), answer.value(), goalId, userId))
+                .toList();
+
+        return connection.preparedQuery("INSERT INTO custom_field_answers (id, field_definition_id, field_value, goal_id, user_id) "
+                        + "VALUES ($1, $2, $3, $4, $5)")
+                .executeBatch(batch)
+                .replaceWithVoid();
+    }
+
+    /**
+     * Writes the outbox row on the connection of the surrounding transaction, like {@link OutboxWriter} does for Hibernate
+     */
+    private Uni<Void> appendOutbox(SqlClient connection, OutboxEventType eventType, UUID aggregateId, UUID userId,
+                                   Object payload) {
+        return connection.preparedQuery("INSERT INTO outbox_events (event_type, aggregate_id, user_id, payload, created_at) "
+                        + "VALUES ($1, $2, $3, $4::jsonb, $5)")
+                .execute(Tuple.of(eventType.name(), aggregateId, userId, outbox.toJson(payload),
+                        LocalDateTime.now(ZoneOffset.UTC)))
+                .replaceWithVoid();
+    }
+
+    private GoalResponse toResponse(Row row) {
+        return new GoalResponse(
+                row.getUUID("id"),
+                row.getString("title"),
+                row.getString("description"),
+                row.getUUID("goal_type_id"),
+                GoalStatus.valueOf(row.getString("status")),
+                row.getUUID("user_id"),
+                row.getLocalDateTime("created_at"),
+                row.getLocalDateTime("updated_at"),
+                row.getLong("version")
+        );
+    }
+
+    private UUID getCurrentUserId() {
+        return securityUtils.getCurrentUserIdAsUUID()
+                .orElseThrow(() -> new IllegalStateException("User is not authenticated"));
+    }
+}
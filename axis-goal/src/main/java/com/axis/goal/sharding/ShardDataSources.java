@@ -0,0 +1,80 @@
+package com.axis.goal.sharding;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The datasources that hold goal data, keyed by shard name.
+ * <p>
+ * Shard {@value #PRIMARY} is the default datasource, which also holds the shard directory; every other name in
+ * {@code axis.sharding.shards} must be a named datasource ({@code quarkus.datasource.<name>.*}). Without sharding
+ * the only shard is the primary.
+ */
+@Slf4j
+@ApplicationScoped
+public class ShardDataSources {
+
+    public static final String PRIMARY = "primary";
+
+    @Inject
+    AgroalDataSource primary;
+
+    @Inject
+    @Any
+    Instance<AgroalDataSource> named;
+
+    @ConfigProperty(name = "axis.sharding.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.sharding.shards", defaultValue = PRIMARY)
+    List<String> shardNames;
+
+    private final Map<String, AgroalDataSource> dataSources = new LinkedHashMap<>();
+
+    @PostConstruct
+    void init() {
+        dataSources.put(PRIMARY, primary);
+        if (!enabled) {
+            return;
+        }
+        for (String name : shardNames) {
+            if (!PRIMARY.equals(name)) {
+                dataSources.put(name, named.select(new DataSource.DataSourceLiteral(name)).get());
+            }
+        }
+        log.info("Sharding goal data across {}", dataSources.keySet());
+    }
+
+    /**
+     * The shards users are hashed onto, in configuration order
+     */
+    public List<String> names() {
+        return enabled ? List.copyOf(shardNames) : List.of(PRIMARY);
+    }
+
+    /**
+     * Every datasource that may hold goal data, including the primary even when it is not on the ring
+     */
+    public Map<String, AgroalDataSource> all() {
+        return dataSources;
+    }
+
+    public AgroalDataSource get(String shard) {
+        AgroalDataSource dataSource = dataSources.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard '" + shard + "'");
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,343 @@
+package com.axis.goal.sharding;
+
+import com.axis.common.exception.BusinessException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Moves users between shards while the service is running.
+ * <p>
+ * A move marks the user as moving in the directory, so replicas that already know reject the user's writes with 503
+ * right away. It then takes the user's {@link ShardWriteFence} exclusively on the source, waiting at most
+ * {@code axis.sharding.move.drain} for transactions in flight; from then on no write of the user can commit there.
+ * The user's goal types, field definitions, goals, answers and archived goals are copied to the target in one
+ * transaction, read from a single snapshot of the source. The directory is switched to the target, and the source
+ * rows are deleted and replaced by a tombstone in the transaction holding the fence, which releases it. Writers
+ * that waited on the fence find the tombstone and get a 503, even on replicas whose directory is still stale.
+ * Reads keep working throughout; writes are blocked for the copy, so one user at a time.
+ * <p>
+ * To add a shard without moving anyone at deploy time, {@link #pin} the users that the new ring would place
+ * elsewhere, deploy the new shard list, and let {@link #rebalance} move the pinned users in small steps.
+ */
+@Slf4j
+@ApplicationScoped
+public class ShardRebalancer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_TYPES_SQL = "SELECT * FROM goal_types WHERE user_id = ?";
+    private static final String SELECT_DEFINITIONS_SQL = """
+            SELECT d.* FROM custom_field_definitions d
+            JOIN goal_types t ON t.id = d.goal_type_id
+            WHERE t.user_id = ?
+            """;
+    // Parents before children, so the self-referencing foreign key holds at every insert
+    private static final String SELECT_GOALS_SQL = """
+            WITH RECURSIVE depth(id, level) AS (
+                SELECT id, 0 FROM goals WHERE user_id = ? AND parent_id IS NULL
+                UNION ALL
+                SELECT g.id, d.level + 1 FROM goals g JOIN depth d ON g.parent_id = d.id WHERE g.user_id = ?
+            )
+            SELECT g.* FROM goals g JOIN depth d ON d.id = g.id
+            ORDER BY d.level
+            """;
+    private static final String SELECT_ANSWERS_SQL = "SELECT * FROM custom_field_answers WHERE user_id = ?";
+    private static final String SELECT_ARCHIVE_SQL = "SELECT * FROM goal_archive WHERE user_id = ?";
+    private static final String SELECT_USERS_SQL = """
+            SELECT user_id FROM goal_types
+            UNION SELECT user_id FROM goals
+            UNION SELECT user_id FROM goal_archive
+            """;
+
+    // Definitions and the answers referencing them go with their goal type
+    private static final String[] DELETE_USER_SQL = {
+            "DELETE FROM custom_field_answers WHERE user_id = ?",
+            "DELETE FROM goals WHERE user_id = ?",
+            "DELETE FROM goal_types WHERE user_id = ?",
+            "DELETE FROM goal_archive WHERE user_id = ?"
+    };
+
+    private static final String UPSERT_ASSIGNMENT_SQL = """
+            INSERT INTO user_shards (user_id, shard, moving_to, updated_at) VALUES (?, ?, ?, now())
+            ON CONFLICT (user_id) DO UPDATE SET shard = EXCLUDED.shard, moving_to = EXCLUDED.moving_to, updated_at = now()
+            """;
+    private static final String PIN_SQL = """
+            INSERT INTO user_shards (user_id, shard, updated_at) VALUES (?, ?, now())
+            ON CONFLICT (user_id) DO NOTHING
+            """;
+    private static final String DELETE_ASSIGNMENT_SQL = "DELETE FROM user_shards WHERE user_id = ?";
+
+    @Inject
+    ShardDataSources dataSources;
+
+    @Inject
+    ShardRouter router;
+
+    @Inject
+    ShardWriteFence writeFence;
+
+    @ConfigProperty(name = "axis.sharding.virtual-nodes", defaultValue = "128")
+    int virtualNodes;
+
+    @ConfigProperty(name = "axis.sharding.move.drain", defaultValue = "2s")
+    Duration drain;
+
+    /**
+     * Outcome of one move; {@code rows} counts copied rows per table
+     */
+    public record MoveResult(UUID userId, String from, String to, Map<String, Integer> rows, long durationMillis) {
+    }
+
+    public MoveResult move(UUID userId, String target) {
+        requireEnabled();
+        if (!dataSources.names().contains(target)) {
+            throw new BusinessException("Unknown shard '" + target + "'", Response.Status.BAD_REQUEST);
+        }
+        ShardRouter.Assignment previous = router.directory().get(userId);
+        if (previous != null && previous.movingTo() != null) {
+            throw new BusinessException("User is already being moved to " + previous.movingTo(), Response.Status.CONFLICT);
+        }
+        String source = router.shardFor(userId);
+        if (source.equals(target)) {
+            return new MoveResult(userId, source, target, Map.of(), 0);
+        }
+
+        long started = System.nanoTime();
+        Map<String, Integer> rows;
+        try (Connection fence = dataSources.get(source).getConnection()) {
+            fence.setAutoCommit(false);
+            try {
+                assign(userId, source, target);
+                writeFence.lockExclusively(fence, userId, drain);
+                rows = copy(userId, source, target);
+                // Not visible until the fence commits, after the switch
+                deleteUserRows(fence, userId);
+                writeFence.markMoved(fence, userId, target);
+                if (router.ring().shardFor(userId).equals(target)) {
+                    unassign(userId);
+                } else {
+                    assign(userId, target, null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                rollback(fence);
+                restore(userId, previous);
+                throw new IllegalStateException("Moving user " + userId + " from " + source + " to " + target
+                        + " failed, the user stays on " + source, e);
+            }
+            try {
+                fence.commit();
+            } catch (SQLException e) {
+                log.error("Moved user {} to {} but could not remove their rows from {}; writes of replicas with a stale "
+                        + "directory may land there until it refreshes: {}", userId, target, source, e.getMessage());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not connect to shard " + source, e);
+        }
+
+        long durationMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Moved user {} from {} to {} in {}ms: {}", userId, source, target, durationMillis, rows);
+        return new MoveResult(userId, source, target, rows, durationMillis);
+    }
+
+    /**
+     * Pins every user whose shard would change under the candidate shard list to the shard they are on now
+     *
+     * @return the number of users pinned
+     */
+    public int pin(List<String> candidateShards) {
+        requireEnabled();
+        ConsistentHashRing candidate = new ConsistentHashRing(candidateShards, virtualNodes);
+        Map<UUID, ShardRouter.Assignment> directory = router.directory();
+        int pinned = 0;
+        try (Connection primary = dataSources.get(ShardDataSources.PRIMARY).getConnection();
+             PreparedStatement insert = primary.prepareStatement(PIN_SQL)) {
+            for (String shard : dataSources.names()) {
+                for (UUID userId : usersOn(shard)) {
+                    if (!directory.containsKey(userId) && router.shardFor(userId).equals(shard)
+                            && !candidate.shardFor(userId).equals(shard)) {
+                        insert.setObject(1, userId);
+                        insert.setString(2, shard);
+                        insert.addBatch();
+                        if (++pinned % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                }
+            }
+            insert.executeBatch();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Pinning users failed", e);
+        }
+        router.directoryChanged();
+        log.info("Pinned {} users ahead of the shard list {}", pinned, candidateShards);
+        return pinned;
+    }
+
+    /**
+     * Moves up to {@code limit} pinned users to the shard the current ring places them on
+     */
+    public List<MoveResult> rebalance(int limit) {
+        requireEnabled();
+        List<MoveResult> results = new ArrayList<>();
+        for (Map.Entry<UUID, ShardRouter.Assignment> entry : router.directory().entrySet()) {
+            if (results.size() >= limit) {
+                break;
+            }
+            String target = router.ring().shardFor(entry.getKey());
+            if (entry.getValue().movingTo() == null && !entry.getValue().shard().equals(target)) {
+                results.add(move(entry.getKey(), target));
+            }
+        }
+        return results;
+    }
+
+    private Map<String, Integer> copy(UUID userId, String source, String target) throws SQLException {
+        try (Connection from = dataSources.get(source).getConnection();
+             Connection to = dataSources.get(target).getConnection()) {
+            from.setAutoCommit(false);
+            from.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            to.setAutoCommit(false);
+            try {
+                // Leftovers of an earlier move away from the target
+                deleteUserRows(to, userId);
+                writeFence.clearMoved(to, userId);
+                Map<String, Integer> rows = new LinkedHashMap<>();
+                rows.put("goal_types", copyRows(from, to, "goal_types", SELECT_TYPES_SQL, userId, 1));
+                rows.put("custom_field_definitions",
+                        copyRows(from, to, "custom_field_definitions", SELECT_DEFINITIONS_SQL, userId, 1));
+                rows.put("goals", copyRows(from, to, "goals", SELECT_GOALS_SQL, userId, 2));
+                rows.put("custom_field_answers", copyRows(from, to, "custom_field_answers", SELECT_ANSWERS_SQL, userId, 1));
+                rows.put("goal_archive", copyRows(from, to, "goal_archive", SELECT_ARCHIVE_SQL, userId, 1));
+                to.commit();
+                from.commit();
+                return rows;
+            } catch (SQLException | RuntimeException e) {
+                to.rollback();
+                from.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Copies the rows selected on one connection into the same table on the other, column for column
+     */
+    private static int copyRows(Connection from, Connection to, String table, String selectSql, UUID userId,
+                                int userParameters) throws SQLException {
+        try (PreparedStatement select = from.prepareStatement(selectSql)) {
+            for (int i = 1; i <= userParameters; i++) {
+                select.setObject(i, userId);
+            }
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet rs = select.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columns = meta.getColumnCount();
+                StringJoiner names = new StringJoiner(", ");
+                StringJoiner parameters = new StringJoiner(", ");
+                for (int column = 1; column <= columns; column++) {
+                    names.add(meta.getColumnName(column));
+                    parameters.add("?");
+                }
+                try (PreparedStatement insert = to.prepareStatement(
+                        "INSERT INTO " + table + " (" + names + ") VALUES (" + parameters + ")")) {
+                    int copied = 0;
+                    while (rs.next()) {
+                        for (int column = 1; column <= columns; column++) {
+                            insert.setObject(column, rs.getObject(column));
+                        }
+                        insert.addBatch();
+                        if (++copied % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                    insert.executeBatch();
+                    return copied;
+                }
+            }
+        }
+    }
+
+    private static void deleteUserRows(Connection connection, UUID userId) throws SQLException {
+        for (String sql : DELETE_USER_SQL) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setObject(1, userId);
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    private List<UUID> usersOn(String shard) throws SQLException {
+        List<UUID> users = new ArrayList<>();
+        try (Connection connection = dataSources.get(shard).getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_USERS_SQL);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                users.add(rs.getObject(1, UUID.class));
+            }
+        }
+        return users;
+    }
+
+    private void assign(UUID userId, String shard, String movingTo) throws SQLException {
+        try (Connection connection = dataSources.get(ShardDataSources.PRIMARY).getConnection();
+             PreparedStatement statement = connection.prepareStatement(UPSERT_ASSIGNMENT_SQL)) {
+            statement.setObject(1, userId);
+            statement.setString(2, shard);
+            statement.setString(3, movingTo);
+            statement.executeUpdate();
+        }
+        router.directoryChanged();
+    }
+
+    private void unassign(UUID userId) throws SQLException {
+        try (Connection connection = dataSources.get(ShardDataSources.PRIMARY).getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE_ASSIGNMENT_SQL)) {
+            statement.setObject(1, userId);
+            statement.executeUpdate();
+        }
+        router.directoryChanged();
+    }
+
+    private static void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            log.warn("Rollback failed, the connection is discarded: {}", e.getMessage());
+        }
+    }
+
+    private void restore(UUID userId, ShardRouter.Assignment previous) {
+        try {
+            if (previous == null) {
+                unassign(userId);
+            } else {
+                assign(userId, previous.shard(), null);
+            }
+        } catch (SQLException e) {
+            log.error("Could not clear the moving state of user {}, writes stay blocked until user_shards is fixed: {}",
+                    userId, e.getMessage());
+        }
+    }
+
+    private void requireEnabled() {
+        if (!router.isEnabled()) {
+            throw new BusinessException("Sharding is not enabled", Response.Status.CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.axis.goal.sharding;
+
+import com.axis.common.cache.CacheInvalidatedEvent;
+import com.axis.common.cache.InvalidationBus;
+import com.axis.common.exception.BusinessException;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maps a user to the shard holding their goal data.
+ * <p>
+ * Users are placed by a {@link ConsistentHashRing} over {@code axis.sharding.shards}. The {@code user_shards}
+ * directory on the primary overrides the ring for users that were pinned or moved by {@link ShardRebalancer}.
+ * The directory is small and kept in memory; it is reloaded every {@code axis.sharding.directory-refresh} and as
+ * soon as another replica publishes {@value #DIRECTORY_KEY} on the {@link InvalidationBus}.
+ */
+@Slf4j
+@ApplicationScoped
+public class ShardRouter {
+
+    public static final String DIRECTORY_KEY = "shards:directory";
+
+    private static final String LOAD_SQL = "SELECT user_id, shard, moving_to FROM user_shards";
+
+    @Inject
+    ShardDataSources dataSources;
+
+    @Inject
+    InvalidationBus invalidationBus;
+
+    @ConfigProperty(name = "axis.sharding.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "axis.sharding.virtual-nodes", defaultValue = "128")
+    int virtualNodes;
+
+    private ConsistentHashRing ring;
+    private volatile Map<UUID, Assignment> directory = Map.of();
+
+    /**
+     * A directory entry; {@code movingTo} is set while the user's data is being copied
+     */
+    public record Assignment(String shard, String movingTo) {
+    }
+
+    @PostConstruct
+    void init() {
+        ring = new ConsistentHashRing(dataSources.names(), virtualNodes);
+        if (enabled) {
+            reload();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String shardFor(UUID userId) {
+        if (!enabled) {
+            return ShardDataSources.PRIMARY;
+        }
+        Assignment assignment = directory.get(userId);
+        return assignment != null ? assignment.shard() : ring.shardFor(userId);
+    }
+
+    public ConsistentHashRing ring() {
+        return ring;
+    }
+
+    public Map<UUID, Assignment> directory() {
+        return directory;
+    }
+
+    /**
+     * Rejects writes for a user whose data is being moved to another shard
+     */
+    public void checkWritable(UUID userId) {
+        Assignment assignment = directory.get(userId);
+        if (assignment != null && assignment.movingTo() != null) {
+            throw new BusinessException("Your goals are being moved, please retry in a few seconds",
+                    Response.Status.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * Reloads the directory here and tells the other replicas to do the same
+     */
+    public void directoryChanged() {
+        // The bus fires the local event synchronously, which reloads this replica
+        invalidationBus.publish(DIRECTORY_KEY);
+    }
+
+    @Scheduled(every = "${axis.sharding.directory-refresh:30s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void refresh() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    void onInvalidated(@Observes CacheInvalidatedEvent event) {
+        if (enabled && event.affects(DIRECTORY_KEY)) {
+            reload();
+        }
+    }
+
+    private void reload() {
+        Map<UUID, Assignment> loaded = new HashMap<>();
+        try (Connection connection = dataSources.get(ShardDataSources.PRIMARY).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LOAD_SQL)) {
+            while (rs.next()) {
+                loaded.put(rs.getObject("user_id", UUID.class),
+                        new Assignment(rs.getString("shard"), rs.getString("moving_to")));
+            }
+            directory = Map.copyOf(loaded);
+        } catch (SQLException e) {
+            log.warn("Could not reload the shard directory, keeping {} entries: {}", directory.size(), e.getMessage());
+        }
+    }
+}
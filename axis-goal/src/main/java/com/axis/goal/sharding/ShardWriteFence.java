@@ -0,0 +1,172 @@
+package com.axis.goal.sharding;
+
+import com.axis.common.exception.BusinessException;
+import com.axis.common.security.SecurityUtils;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Per-user write fence between request transactions and {@link ShardRebalancer}.
+ * <p>
+ * Every transaction of a user takes a shared transaction-level advisory lock keyed by the user on the shard it
+ * runs on, then checks the shard's {@code moved_users} tombstones. A move holds the same lock exclusively from
+ * before its snapshot until the source rows are deleted and the tombstone is written. Transactions already running
+ * are waited for, later ones wait for the move and then find the tombstone and get a 503. No write can commit on
+ * the source in between, however stale the directory of the replica running it.
+ */
+@Slf4j
+@ApplicationScoped
+public class ShardWriteFence {
+
+    private static final String SHARED_LOCK_SQL = "SELECT pg_advisory_xact_lock_shared(hashtextextended(?::text, 0))";
+    private static final String EXCLUSIVE_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtextextended(?::text, 0))";
+    private static final String MOVED_SQL = "SELECT moved_to FROM moved_users WHERE user_id = ?";
+    private static final String MARK_MOVED_SQL = """
+            INSERT INTO moved_users (user_id, moved_to, moved_at) VALUES (?, ?, now())
+            ON CONFLICT (user_id) DO UPDATE SET moved_to = EXCLUDED.moved_to, moved_at = now()
+            """;
+    private static final String CLEAR_MOVED_SQL = "DELETE FROM moved_users WHERE user_id = ?";
+
+    @Inject
+    TransactionSynchronizationRegistry transactions;
+
+    @Inject
+    SecurityUtils securityUtils;
+
+    @Inject
+    ShardRouter router;
+
+    /**
+     * Wraps a shard's connection provider so that connections handed to a user's transaction are fenced
+     */
+    public ConnectionProvider fenced(ConnectionProvider delegate) {
+        return new FencedConnectionProvider(delegate);
+    }
+
+    /**
+     * Takes the user's fence exclusively in the transaction of {@code connection}, waiting at most {@code timeout}
+     * for the transactions holding it
+     */
+    void lockExclusively(Connection connection, UUID userId, Duration timeout) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL lock_timeout = '" + timeout.toMillis() + "ms'");
+        }
+        lock(connection, EXCLUSIVE_LOCK_SQL, userId);
+    }
+
+    /**
+     * Records on the source shard that the user now lives on {@code target}
+     */
+    void markMoved(Connection connection, UUID userId, String target) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(MARK_MOVED_SQL)) {
+            statement.setObject(1, userId);
+            statement.setString(2, target);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Removes the tombstone of an earlier move away from the shard of {@code connection}
+     */
+    void clearMoved(Connection connection, UUID userId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(CLEAR_MOVED_SQL)) {
+            statement.setObject(1, userId);
+            statement.executeUpdate();
+        }
+    }
+
+    private void enter(Connection connection, UUID userId) throws SQLException {
+        String key = ShardWriteFence.class.getName() + ":" + userId;
+        if (transactions.getResource(key) != null) {
+            return;
+        }
+        // Separate statements: the tombstone check must not read a snapshot taken before the lock was granted
+        lock(connection, SHARED_LOCK_SQL, userId);
+        try (PreparedStatement statement = connection.prepareStatement(MOVED_SQL)) {
+            statement.setObject(1, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    log.info("Rejected a transaction of user {} on a shard they moved away from (now on {})",
+                            userId, rs.getString(1));
+                    router.refresh();
+                    throw new BusinessException("Your goals are being moved, please retry in a few seconds",
+                            Response.Status.SERVICE_UNAVAILABLE);
+                }
+            }
+        }
+        transactions.putResource(key, Boolean.TRUE);
+    }
+
+    private static void lock(Connection connection, String sql, UUID userId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, userId);
+            statement.execute();
+        }
+    }
+
+    private Optional<UUID> currentUserId() {
+        try {
+            return securityUtils.getCurrentUserIdAsUUID();
+        } catch (RuntimeException e) {
+            // No request context (scheduled jobs, startup)
+            return Optional.empty();
+        }
+    }
+
+    private final class FencedConnectionProvider implements ConnectionProvider {
+
+        private final ConnectionProvider delegate;
+
+        private FencedConnectionProvider(ConnectionProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = delegate.getConnection();
+            Optional<UUID> userId = transactions.getTransactionKey() != null ? currentUserId() : Optional.empty();
+            if (userId.isPresent()) {
+                try {
+                    enter(connection, userId.get());
+                } catch (SQLException | RuntimeException e) {
+                    delegate.closeConnection(connection);
+                    throw e;
+                }
+            }
+            return connection;
+        }
+
+        @Override
+        public void closeConnection(Connection connection) throws SQLException {
+            delegate.closeConnection(connection);
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return delegate.supportsAggressiveRelease();
+        }
+
+        @Override
+        public boolean isUnwrappableAs(Class<?> unwrapType) {
+            return delegate.isUnwrappableAs(unwrapType);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> unwrapType) {
+            return delegate.unwrap(unwrapType);
+        }
+    }
+}
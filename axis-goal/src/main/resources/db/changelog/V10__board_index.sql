@@ -0,0 +1,4 @@
+-- Create index for the board query: each user's live goals already ordered per type, so the window
+-- functions in BoardAssembler read them without a sort
+CREATE INDEX idx_goals_board ON goals(user_id, goal_type_id, created_at DESC, id)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,7 @@
+-- Create moved_users table (tombstones of users moved to another shard, checked by ShardWriteFence)
+-- A transaction of a user listed here runs on a shard that no longer owns their data and is rejected
+CREATE TABLE moved_users (
+    user_id UUID PRIMARY KEY,
+    moved_to VARCHAR(63) NOT NULL,
+    moved_at TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,9 @@
+-- Runs with the 'partitioning' context only, after V7 whenever that is enabled.
+-- V7 recreates goals with its own list of indexes, so indexes added to goals by later migrations (V9, V10) are
+-- missing when partitioning is turned on after they ran. Recreate them on the partitioned table; when partitioning
+-- was on from the start they already exist and nothing happens.
+CREATE INDEX IF NOT EXISTS idx_goals_finished_updated_at ON goals(updated_at)
+    WHERE status IN ('COMPLETED', 'CANCELLED') AND deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_goals_board ON goals(user_id, goal_type_id, created_at DESC, id)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,4 @@
+-- Add version columns for optimistic concurrency (@Version, ETag / If-Match on updates)
+ALTER TABLE goal_types ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE goals ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE custom_field_answers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
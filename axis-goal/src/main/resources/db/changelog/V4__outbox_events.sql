@@ -0,0 +1,15 @@
+-- Create outbox_events table (transactional outbox, relayed to RabbitMQ by OutboxRelay)
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT now(),
+    last_error TEXT
+);
+
+-- Create index for the relay's claim query (published rows are deleted, so the table stays small)
+CREATE INDEX idx_outbox_events_next_attempt ON outbox_events(next_attempt_at, id);
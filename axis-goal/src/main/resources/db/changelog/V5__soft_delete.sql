@@ -0,0 +1,11 @@
+-- Soft delete: deleted goals and goal types are hidden at once and purged in batches by SoftDeletePurger
+ALTER TABLE goals ADD COLUMN deleted_at TIMESTAMP;
+ALTER TABLE goal_types ADD COLUMN deleted_at TIMESTAMP;
+
+-- Create partial indexes for the purger (only deleted rows are indexed)
+CREATE INDEX idx_goals_deleted_at ON goals(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_goal_types_deleted_at ON goal_types(deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- Deleted goal types keep their level until purged, so levels are unique among live types only
+ALTER TABLE goal_types DROP CONSTRAINT uq_goal_types_user_level;
+CREATE UNIQUE INDEX uq_goal_types_user_level ON goal_types(user_id, level_number) WHERE deleted_at IS NULL;
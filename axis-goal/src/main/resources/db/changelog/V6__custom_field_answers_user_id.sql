@@ -0,0 +1,7 @@
+-- Add user_id to custom_field_answers: the goal owner, so answer queries can be user-scoped (and partitioned, see V7)
+ALTER TABLE custom_field_answers ADD COLUMN user_id UUID;
+UPDATE custom_field_answers a SET user_id = g.user_id FROM goals g WHERE g.id = a.goal_id;
+ALTER TABLE custom_field_answers ALTER COLUMN user_id SET NOT NULL;
+
+-- Create index for user-scoped answer lookups
+CREATE INDEX idx_custom_field_answers_user_goal ON custom_field_answers(user_id, goal_id);
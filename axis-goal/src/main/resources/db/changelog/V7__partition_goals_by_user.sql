@@ -0,0 +1,82 @@
+-- Opt-in, only runs with the Liquibase context 'partitioning' (LIQUIBASE_CONTEXTS=default,partitioning).
+-- Hash-partitions goals and custom_field_answers by user_id into 16 partitions each.
+-- Rewrites both tables under an exclusive lock, so run it in a maintenance window. The new tables copy every
+-- column and check constraint of the old ones (LIKE); indexes are recreated below, so a later migration that
+-- adds an index to these tables must be applied after this one.
+-- Primary keys and the foreign keys to goals include user_id, because PostgreSQL requires the partition key in
+-- every unique constraint of a partitioned table.
+
+ALTER TABLE custom_field_answers DROP CONSTRAINT fk_custom_field_answers_goal;
+ALTER TABLE goals DROP CONSTRAINT fk_goals_parent;
+ALTER TABLE goals RENAME TO goals_unpartitioned;
+ALTER TABLE custom_field_answers RENAME TO custom_field_answers_unpartitioned;
+
+-- Create partitioned goals table
+CREATE TABLE goals (LIKE goals_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY HASH (user_id);
+CREATE TABLE goals_p00 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE goals_p01 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE goals_p02 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE goals_p03 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE goals_p04 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE goals_p05 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE goals_p06 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE goals_p07 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE goals_p08 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE goals_p09 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE goals_p10 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE goals_p11 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE goals_p12 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE goals_p13 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE goals_p14 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE goals_p15 PARTITION OF goals FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+
+-- Create partitioned custom_field_answers table
+CREATE TABLE custom_field_answers (LIKE custom_field_answers_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY HASH (user_id);
+CREATE TABLE custom_field_answers_p00 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE custom_field_answers_p01 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE custom_field_answers_p02 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE custom_field_answers_p03 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE custom_field_answers_p04 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE custom_field_answers_p05 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE custom_field_answers_p06 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE custom_field_answers_p07 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE custom_field_answers_p08 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE custom_field_answers_p09 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE custom_field_answers_p10 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE custom_field_answers_p11 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE custom_field_answers_p12 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE custom_field_answers_p13 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE custom_field_answers_p14 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE custom_field_answers_p15 PARTITION OF custom_field_answers FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+
+-- Copy the data, then drop the old tables with their indexes
+INSERT INTO goals SELECT * FROM goals_unpartitioned;
+INSERT INTO custom_field_answers SELECT * FROM custom_field_answers_unpartitioned;
+DROP TABLE custom_field_answers_unpartitioned;
+DROP TABLE goals_unpartitioned;
+
+-- Recreate goals constraints
+ALTER TABLE goals ADD CONSTRAINT goals_pkey PRIMARY KEY (id, user_id);
+ALTER TABLE goals ADD CONSTRAINT fk_goals_goal_type FOREIGN KEY (goal_type_id) REFERENCES goal_types(id);
+ALTER TABLE goals ADD CONSTRAINT fk_goals_parent FOREIGN KEY (parent_id, user_id) REFERENCES goals(id, user_id) ON DELETE CASCADE;
+
+-- Create partition-local indexes on goals (created on the parent, cascaded to every partition)
+CREATE INDEX idx_goals_user_created_at ON goals(user_id, created_at);
+CREATE INDEX idx_goals_user_status ON goals(user_id, status);
+CREATE INDEX idx_goals_user_goal_type_id ON goals(user_id, goal_type_id);
+CREATE INDEX idx_goals_goal_type_id ON goals(goal_type_id);
+CREATE INDEX idx_goals_parent_id ON goals(parent_id);
+CREATE INDEX idx_goals_deleted_at ON goals(deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- Recreate custom_field_answers constraints
+ALTER TABLE custom_field_answers ADD CONSTRAINT custom_field_answers_pkey PRIMARY KEY (id, user_id);
+ALTER TABLE custom_field_answers ADD CONSTRAINT fk_custom_field_answers_goal FOREIGN KEY (goal_id, user_id) REFERENCES goals(id, user_id) ON DELETE CASCADE;
+ALTER TABLE custom_field_answers ADD CONSTRAINT fk_custom_field_answers_field_definition FOREIGN KEY (field_definition_id) REFERENCES custom_field_definitions(id) ON DELETE CASCADE;
+
+-- Create partition-local indexes on custom_field_answers
+CREATE INDEX idx_custom_field_answers_user_goal ON custom_field_answers(user_id, goal_id);
+CREATE INDEX idx_custom_field_answers_goal_id ON custom_field_answers(goal_id);
+CREATE INDEX idx_custom_field_answers_field_definition_id ON custom_field_answers(field_definition_id);
+
+ANALYZE goals;
+ANALYZE custom_field_answers;
@@ -0,0 +1,8 @@
+-- Create user_shards table (shard directory, read from the primary by ShardRouter)
+-- Overrides the consistent-hash placement for pinned users and marks users whose data is being moved
+CREATE TABLE user_shards (
+    user_id UUID PRIMARY KEY,
+    shard VARCHAR(63) NOT NULL,
+    moving_to VARCHAR(63),
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
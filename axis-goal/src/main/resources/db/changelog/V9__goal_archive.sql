@@ -0,0 +1,24 @@
+-- Create goal_archive table (finished goals moved out of goals by GoalArchiver)
+-- Append-only, no foreign keys: the goal type or parent may be purged later. Answers are kept as one JSONB
+-- document per goal; large values are lz4-compressed.
+CREATE TABLE goal_archive (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    goal_type_id UUID NOT NULL,
+    parent_id UUID,
+    title VARCHAR(255) NOT NULL,
+    description TEXT COMPRESSION lz4,
+    status VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT timezone('UTC', now()),
+    answers JSONB COMPRESSION lz4
+) WITH (fillfactor = 100);
+
+-- Create index for user-scoped archive queries
+CREATE INDEX idx_goal_archive_user_created_at ON goal_archive(user_id, created_at);
+
+-- Create index for finding archival candidates without scanning active goals
+CREATE INDEX idx_goals_finished_updated_at ON goals(updated_at)
+    WHERE status IN ('COMPLETED', 'CANCELLED') AND deleted_at IS NULL;
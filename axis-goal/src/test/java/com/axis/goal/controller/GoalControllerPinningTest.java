@@ -0,0 +1,102 @@
+package com.axis.goal.controller;
+
+import com.axis.common.metrics.VirtualThreadPinningMonitor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.quarkus.test.security.oidc.Claim;
+import io.quarkus.test.security.oidc.OidcSecurity;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Drives the goal endpoints, which run on virtual threads, concurrently and fails if any of them pinned its carrier
+ * longer than {@code axis.vthread.pinning.fail-threshold}.
+ */
+@QuarkusTest
+@TestSecurity(user = "8d7e6f5a-4b3c-4d2e-8f10-a2b3c4d5e6f7")
+@OidcSecurity(claims = @Claim(key = "sub", value = "8d7e6f5a-4b3c-4d2e-8f10-a2b3c4d5e6f7"))
+class GoalControllerPinningTest {
+
+    private static final int CONCURRENCY = 16;
+    private static final int GOALS = 20;
+    // JFR flushes the recording stream about once a second
+    private static final Duration JFR_FLUSH = Duration.ofSeconds(3);
+
+    @Inject
+    VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void clearViolations() {
+        monitor.clearViolations();
+    }
+
+    @Test
+    void goalEndpointsDoNotPinCarrierThreads() throws Exception {
+        String typeId = given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("title", "Pinning"))
+                .when().post("/api/goal-types")
+                .then().statusCode(201)
+                .extract().path("id");
+
+        List<String> goalIds = concurrently(GOALS, i -> given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("title", "Goal " + i, "typeId", typeId, "status", "NOT_STARTED"))
+                .when().post("/api/goals")
+                .then().statusCode(201)
+                .extract().path("id"));
+
+        concurrently(GOALS, i -> {
+            String id = goalIds.get(i);
+            given().when().get("/api/goals/" + id).then().statusCode(200);
+            given()
+                    .contentType(ContentType.JSON)
+                    .body(Map.of("title", "Goal " + i, "typeId", typeId, "status", "IN_PROGRESS"))
+                    .when().patch("/api/goals/" + id)
+                    .then().statusCode(200);
+            given().when().get("/api/goals/type/" + typeId).then().statusCode(200);
+            given().when().get("/api/goals?size=50").then().statusCode(200);
+            return id;
+        });
+        given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("ids", goalIds))
+                .when().post("/api/goals/batch-get")
+                .then().statusCode(200);
+
+        Thread.sleep(JFR_FLUSH);
+        monitor.assertNoViolations();
+    }
+
+    private static <T> List<T> concurrently(int count, Request<T> request) throws Exception {
+        try (ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(workers.submit(() -> request.send(index)));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request<T> {
+        T send(int index);
+    }
+}
@@ -0,0 +1,69 @@
+package com.axis.goal.datasource;
+
+import com.axis.common.datasource.ReplicaLagMonitor;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.security.TestSecurity;
+import io.quarkus.test.security.oidc.Claim;
+import io.quarkus.test.security.oidc.OidcSecurity;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code @ReadOnly} list reads open a {@code replica} session, with the response caches on, and what they read is
+ * never served from the caches afterwards.
+ */
+@QuarkusTest
+@TestProfile(ReplicaRoutingTest.WithReplica.class)
+@TestSecurity(user = "3c2b1a09-8f7e-4d6c-9b5a-4f3e2d1c0b9a")
+@OidcSecurity(claims = @Claim(key = "sub", value = "3c2b1a09-8f7e-4d6c-9b5a-4f3e2d1c0b9a"))
+class ReplicaRoutingTest {
+
+    private static final Duration LAG_CHECK_TIMEOUT = Duration.ofSeconds(15);
+
+    /**
+     * Points the replica datasource at the Dev Services database, so the lag probe reports no lag
+     */
+    public static class WithReplica implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.datasource.replica.jdbc.url", "${quarkus.datasource.jdbc.url}",
+                    "axis.datasource.replica.enabled", "true",
+                    "axis.datasource.replica.lag-check-interval", "1s");
+        }
+    }
+
+    @Inject
+    ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void awaitReplica() throws InterruptedException {
+        long deadline = System.nanoTime() + LAG_CHECK_TIMEOUT.toNanos();
+        while (!lagMonitor.isReplicaUsable() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(lagMonitor.isReplicaUsable(), "replica was not reported usable");
+    }
+
+    @Test
+    void listReadsGoToTheReplicaAndAreNotCached() {
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .when().get("/api/goals")
+                    .then()
+                    .statusCode(200)
+                    .header(ReplicaUsageHeaderFilter.HEADER, equalTo("true"));
+        }
+    }
+}
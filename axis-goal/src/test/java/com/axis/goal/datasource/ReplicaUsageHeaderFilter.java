@@ -0,0 +1,24 @@
+package com.axis.goal.datasource;
+
+import com.axis.common.datasource.ReplicaUsage;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+/**
+ * Tells tests whether a request opened a session on the read replica
+ */
+@ApplicationScoped
+public class ReplicaUsageHeaderFilter {
+
+    static final String HEADER = "X-Test-Replica-Used";
+
+    @Inject
+    ReplicaUsage replicaUsage;
+
+    @ServerResponseFilter
+    public void addHeader(ContainerResponseContext response) {
+        response.getHeaders().putSingle(HEADER, Boolean.toString(replicaUsage.isUsed()));
+    }
+}
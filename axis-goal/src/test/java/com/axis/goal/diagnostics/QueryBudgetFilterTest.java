@@ -0,0 +1,73 @@
+package com.axis.goal.diagnostics;
+
+import com.axis.goal.repository.GoalTypeRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.quarkus.test.security.oidc.Claim;
+import io.quarkus.test.security.oidc.OidcSecurity;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+@TestSecurity(user = "5f0c6a8e-2d3b-4c1a-9e7f-0a1b2c3d4e5f")
+@OidcSecurity(claims = @Claim(key = "sub", value = "5f0c6a8e-2d3b-4c1a-9e7f-0a1b2c3d4e5f"))
+class QueryBudgetFilterTest {
+
+    @Inject
+    QueryBudgetFilter filter;
+
+    @Inject
+    GoalTypeRepository goalTypes;
+
+    @BeforeEach
+    void clearViolations() {
+        filter.clearViolations();
+    }
+
+    @Test
+    void overBudgetWriteKeepsItsStatusAndIsRecorded() {
+        long before = countTypes();
+
+        String id = given()
+                .when().post("/test/query-budget")
+                .then()
+                .statusCode(201)
+                .header(QueryBudgetFilter.EXCEEDED_HEADER, matchesPattern("\\d+/1"))
+                .extract().asString();
+
+        assertEquals(before + 1, countTypes());
+        assertTrue(QuarkusTransaction.requiringNew().call(() -> goalTypes.findByIdOptional(UUID.fromString(id)).isPresent()));
+
+        List<QueryBudgetFilter.Violation> violations = filter.violations();
+        assertEquals(1, violations.size());
+        assertEquals("QueryBudgetProbeResource.create", violations.get(0).endpoint());
+        assertEquals(1, violations.get(0).budget());
+        assertTrue(violations.get(0).statements() > 1);
+    }
+
+    @Test
+    void requestsWithinBudgetAreNotReported() {
+        given()
+                .when().get("/api/goals")
+                .then()
+                .statusCode(200)
+                .header(QueryBudgetFilter.EXCEEDED_HEADER, nullValue());
+
+        filter.assertNoViolations();
+    }
+
+    private long countTypes() {
+        return QuarkusTransaction.requiringNew().call(() -> goalTypes.countByUserId(QueryBudgetProbeResource.USER_ID));
+    }
+}
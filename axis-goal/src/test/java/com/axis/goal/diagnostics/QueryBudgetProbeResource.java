@@ -0,0 +1,37 @@
+package com.axis.goal.diagnostics;
+
+import com.axis.goal.model.entity.GoalType;
+import com.axis.goal.repository.GoalTypeRepository;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import java.util.UUID;
+
+/**
+ * A write that commits and then exceeds its budget, the way a regressed create endpoint would
+ */
+@Path("/test/query-budget")
+public class QueryBudgetProbeResource {
+
+    static final UUID USER_ID = UUID.fromString("5f0c6a8e-2d3b-4c1a-9e7f-0a1b2c3d4e5f");
+
+    @Inject
+    GoalTypeRepository goalTypes;
+
+    @POST
+    @Transactional
+    @QueryBudget(1)
+    public Response create() {
+        int level = (int) goalTypes.countByUserId(USER_ID) + 1;
+        GoalType type = GoalType.builder()
+                .title("Level " + level)
+                .levelNumber(level)
+                .userId(USER_ID)
+                .build();
+        goalTypes.persistAndFlush(type);
+        return Response.status(Response.Status.CREATED).entity(type.getId().toString()).build();
+    }
+}
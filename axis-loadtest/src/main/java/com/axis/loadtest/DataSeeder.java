@@ -0,0 +1,184 @@
+package com.axis.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seeds synthetic users straight into the axis-goal database.
+ * <p>
+ * The REST API cannot set a goal's parent, so deep goal trees are written with batched JDBC inserts instead.
+ * Each user gets {@code typesPerUser} goal types (levels 1..n), {@code fieldsPerType} custom fields per type,
+ * {@code rootGoalsPerUser} trees of depth {@code treeDepth} with {@code treeBranching} children per goal, and one
+ * answer per custom field of the goal's type.
+ */
+public class DataSeeder {
+
+    private static final String[] FIELD_TYPES = {"STRING", "NUMBER", "BOOLEAN", "DATE"};
+    private static final String[] STATUSES = {"NOT_STARTED", "IN_PROGRESS", "COMPLETED", "CANCELLED", "ON_HOLD"};
+    private static final int USERS_PER_TRANSACTION = 20;
+
+    private final LoadTestConfig config;
+
+    public DataSeeder(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public List<SeededUser> seed() throws SQLException {
+        List<SeededUser> users = new ArrayList<>(config.users());
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.dbUser(), config.dbPassword())) {
+            connection.setAutoCommit(false);
+            for (int from = 0; from < config.users(); from += USERS_PER_TRANSACTION) {
+                int count = Math.min(USERS_PER_TRANSACTION, config.users() - from);
+                List<SeededUser> chunk = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    chunk.add(generateUser());
+                }
+                insert(connection, chunk);
+                connection.commit();
+                users.addAll(chunk);
+                System.out.printf("Seeded %d/%d users%n", users.size(), config.users());
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Removes the rows of previously seeded users. Goals, definitions and answers follow through ON DELETE CASCADE.
+     */
+    public void clean(List<SeededUser> users) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.dbUser(), config.dbPassword());
+             PreparedStatement deleteGoals = connection.prepareStatement("DELETE FROM goals WHERE user_id = ?");
+             PreparedStatement deleteTypes = connection.prepareStatement("DELETE FROM goal_types WHERE user_id = ?")) {
+            connection.setAutoCommit(false);
+            for (SeededUser user : users) {
+                deleteGoals.setObject(1, user.userId());
+                deleteGoals.addBatch();
+                deleteTypes.setObject(1, user.userId());
+                deleteTypes.addBatch();
+            }
+            deleteGoals.executeBatch();
+            deleteTypes.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private SeededUser generateUser() {
+        UUID userId = UUID.randomUUID();
+
+        List<UUID> typeIds = new ArrayList<>(config.typesPerUser());
+        Map<UUID, List<UUID>> definitionIdsByType = new LinkedHashMap<>();
+        for (int level = 0; level < config.typesPerUser(); level++) {
+            UUID typeId = UUID.randomUUID();
+            typeIds.add(typeId);
+            List<UUID> definitionIds = new ArrayList<>(config.fieldsPerType());
+            for (int field = 0; field < config.fieldsPerType(); field++) {
+                definitionIds.add(UUID.randomUUID());
+            }
+            definitionIdsByType.put(typeId, definitionIds);
+        }
+
+        List<SeededUser.Goal> goals = new ArrayList<>();
+        List<SeededUser.Answer> answers = new ArrayList<>();
+        List<SeededUser.Goal> level = new ArrayList<>();
+        for (int root = 0; root < config.rootGoalsPerUser(); root++) {
+            level.add(new SeededUser.Goal(UUID.randomUUID(), typeIds.getFirst(), 0));
+        }
+        for (int depth = 0; depth < config.treeDepth() && !level.isEmpty(); depth++) {
+            goals.addAll(level);
+            List<SeededUser.Goal> next = new ArrayList<>();
+            if (depth + 1 < config.treeDepth()) {
+                UUID childType = typeIds.get(Math.min(depth + 1, typeIds.size() - 1));
+                for (int child = 0; child < level.size() * config.treeBranching(); child++) {
+                    next.add(new SeededUser.Goal(UUID.randomUUID(), childType, depth + 1));
+                }
+            }
+            level = next;
+        }
+        for (SeededUser.Goal goal : goals) {
+            for (UUID definitionId : definitionIdsByType.get(goal.typeId())) {
+                answers.add(new SeededUser.Answer(UUID.randomUUID(), goal.id(), definitionId));
+            }
+        }
+        return new SeededUser(userId, typeIds, definitionIdsByType, goals, answers);
+    }
+
+    private void insert(Connection connection, List<SeededUser> users) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try (PreparedStatement types = connection.prepareStatement(
+                     "INSERT INTO goal_types (id, title, level_number, user_id) VALUES (?, ?, ?, ?)");
+             PreparedStatement definitions = connection.prepareStatement(
+                     "INSERT INTO custom_field_definitions (id, label, type, required, placeholder, goal_type_id) "
+                             + "VALUES (?, ?, ?, ?, ?, ?)");
+             PreparedStatement goals = connection.prepareStatement(
+                     "INSERT INTO goals (id, title, description, goal_type_id, status, parent_id, user_id, created_at, updated_at) "
+                             + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement answers = connection.prepareStatement(
+                     "INSERT INTO custom_field_answers (id, field_definition_id, field_value, goal_id, user_id) VALUES (?, ?, ?, ?, ?)")) {
+
+            for (SeededUser user : users) {
+                for (int i = 0; i < user.typeIds().size(); i++) {
+                    UUID typeId = user.typeIds().get(i);
+                    types.setObject(1, typeId);
+                    types.setString(2, "Level " + (i + 1));
+                    types.setInt(3, i + 1);
+                    types.setObject(4, user.userId());
+                    types.addBatch();
+
+                    List<UUID> definitionIds = user.definitionIdsByType().get(typeId);
+                    for (int f = 0; f < definitionIds.size(); f++) {
+                        definitions.setObject(1, definitionIds.get(f));
+                        definitions.setString(2, "Field " + (f + 1));
+                        definitions.setString(3, FIELD_TYPES[f % FIELD_TYPES.length]);
+                        definitions.setBoolean(4, false);
+                        definitions.setString(5, null);
+                        definitions.setObject(6, typeId);
+                        definitions.addBatch();
+                    }
+                }
+
+                // Goals are generated level by level, so a parent is always inserted before its children
+                List<SeededUser.Goal> userGoals = user.goals();
+                int rootCount = config.rootGoalsPerUser();
+                for (int i = 0; i < userGoals.size(); i++) {
+                    SeededUser.Goal goal = userGoals.get(i);
+                    UUID parentId = i < rootCount ? null : userGoals.get((i - rootCount) / config.treeBranching()).id();
+                    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(525_600)));
+                    goals.setObject(1, goal.id());
+                    goals.setString(2, "Goal " + (i + 1) + " at depth " + goal.depth());
+                    goals.setString(3, "Synthetic goal seeded by axis-loadtest");
+                    goals.setObject(4, goal.typeId());
+                    goals.setString(5, STATUSES[random.nextInt(STATUSES.length)]);
+                    goals.setObject(6, parentId);
+                    goals.setObject(7, user.userId());
+                    goals.setTimestamp(8, createdAt);
+                    goals.setTimestamp(9, createdAt);
+                    goals.addBatch();
+                }
+
+                for (SeededUser.Answer answer : user.answers()) {
+                    answers.setObject(1, answer.id());
+                    answers.setObject(2, answer.fieldDefinitionId());
+                    answers.setString(3, "value-" + random.nextInt(10_000));
+                    answers.setObject(4, answer.goalId());
+                    answers.setObject(5, user.userId());
+                    answers.addBatch();
+                }
+            }
+
+            types.executeBatch();
+            definitions.executeBatch();
+            goals.executeBatch();
+            answers.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.axis.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays the weighted operation mix with a fixed number of closed-loop workers per step.
+ * Each worker picks a random user and operation, waits for the response and immediately issues the next call,
+ * so throughput at a step is bounded by service latency. Latencies are recorded in microseconds per endpoint.
+ */
+public class LoadRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final List<SeededUser> users;
+    private final List<String> tokens;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final HttpClient client;
+
+    public LoadRunner(LoadTestConfig config, List<SeededUser> users, TokenIssuer tokenIssuer) {
+        this.config = config;
+        this.users = users;
+        Duration tokenLifetime = config.warmup().plus(config.stepDuration()).multipliedBy(config.concurrency().size())
+                .plusHours(1);
+        this.tokens = users.stream().map(user -> tokenIssuer.issue(user.userId(), tokenLifetime)).toList();
+
+        this.operations = config.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += config.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public List<StepResult> run() throws InterruptedException {
+        List<StepResult> results = new ArrayList<>(config.concurrency().size());
+        for (int concurrency : config.concurrency()) {
+            StepResult result = runStep(concurrency);
+            System.out.printf("concurrency=%-4d throughput=%8.1f req/s  p50=%7.2f ms  p99=%7.2f ms  errors=%d%n",
+                    concurrency, result.throughput(), result.total().p50Millis(), result.total().p99Millis(),
+                    result.total().errors());
+            results.add(result);
+        }
+        return results;
+    }
+
+    private StepResult runStep(int concurrency) throws InterruptedException {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : operations) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+
+        AtomicBoolean measuring = new AtomicBoolean();
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> work(running, measuring, recorders, errors));
+            }
+            Thread.sleep(config.warmup().toMillis());
+            measuring.set(true);
+            long start = System.nanoTime();
+            Thread.sleep(config.stepDuration().toMillis());
+            measuring.set(false);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            running.set(false);
+
+            return StepResult.of(concurrency, seconds, recorders, errors);
+        }
+    }
+
+    private void work(AtomicBoolean running, AtomicBoolean measuring,
+                      Map<Operation, Recorder> recorders, Map<Operation, LongAdder> errors) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running.get()) {
+            int userIndex = random.nextInt(users.size());
+            Operation operation = nextOperation(random);
+            HttpRequest request = operation.request(config.baseUrl(), users.get(userIndex), random)
+                    .header("Authorization", "Bearer " + tokens.get(userIndex))
+                    .timeout(REQUEST_TIMEOUT)
+                    .build();
+
+            long start = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failed = true;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            if (measuring.get()) {
+                recorders.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                if (failed) {
+                    errors.get(operation).increment();
+                }
+            }
+        }
+    }
+
+    private Operation nextOperation(ThreadLocalRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Latency percentiles of one endpoint (or all endpoints combined) at one concurrency level.
+     */
+    public record EndpointStats(String endpoint, long count, long errors, Histogram histogram) {
+
+        public double p50Millis() {
+            return percentileMillis(50);
+        }
+
+        public double p99Millis() {
+            return percentileMillis(99);
+        }
+
+        public double percentileMillis(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double maxMillis() {
+            return histogram.getMaxValue() / 1000.0;
+        }
+    }
+
+    public record StepResult(int concurrency, double seconds, EndpointStats total, List<EndpointStats> endpoints) {
+
+        public double throughput() {
+            return total.count() / seconds;
+        }
+
+        static StepResult of(int concurrency, double seconds,
+                             Map<Operation, Recorder> recorders, Map<Operation, LongAdder> errors) {
+            Histogram combined = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            long totalErrors = 0;
+            List<EndpointStats> endpoints = new ArrayList<>(recorders.size());
+            for (Map.Entry<Operation, Recorder> entry : recorders.entrySet()) {
+                Histogram histogram = entry.getValue().getIntervalHistogram();
+                long endpointErrors = errors.get(entry.getKey()).sum();
+                combined.add(histogram);
+                totalErrors += endpointErrors;
+                endpoints.add(new EndpointStats(entry.getKey().endpoint(), histogram.getTotalCount(),
+                        endpointErrors, histogram));
+            }
+            EndpointStats total = new EndpointStats("ALL", combined.getTotalCount(), totalErrors, combined);
+            return new StepResult(concurrency, seconds, total, endpoints);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.axis.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Load test settings, read from {@code loadtest.properties} and overridable with {@code -Dloadtest.*}.
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        String jdbcUrl,
+        String dbUser,
+        String dbPassword,
+        Path keyDir,
+        int users,
+        int typesPerUser,
+        int fieldsPerType,
+        int rootGoalsPerUser,
+        int treeDepth,
+        int treeBranching,
+        Map<Operation, Integer> mix,
+        List<Integer> concurrency,
+        Duration warmup,
+        Duration stepDuration,
+        Path outputDir,
+        int partitioningUsers,
+        long partitioningGoals,
+        int partitioningAnswersPerGoal,
+        int partitioningPartitions,
+        int partitioningWriters,
+        int partitioningReads,
+        List<StartupBenchmark.Target> startupTargets,
+        int startupRuns,
+        List<String> startupDockerArgs,
+        String startupReadyPath,
+        String startupWarmupPath,
+        int startupWarmupRequests,
+        Duration startupSettle,
+        Duration startupTimeout
+) {
+
+    public static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read loadtest.properties", e);
+        }
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith("loadtest.")) {
+                properties.put(key, value);
+            }
+        });
+
+        return new LoadTestConfig(
+                properties.getProperty("loadtest.base-url"),
+                properties.getProperty("loadtest.jdbc-url"),
+                properties.getProperty("loadtest.db-user"),
+                properties.getProperty("loadtest.db-password"),
+                Path.of(properties.getProperty("loadtest.key-dir")),
+                intValue(properties, "loadtest.users"),
+                intValue(properties, "loadtest.types-per-user"),
+                intValue(properties, "loadtest.fields-per-type"),
+                intValue(properties, "loadtest.root-goals-per-user"),
+                intValue(properties, "loadtest.tree-depth"),
+                intValue(properties, "loadtest.tree-branching"),
+                parseMix(properties.getProperty("loadtest.mix")),
+                Arrays.stream(properties.getProperty("loadtest.concurrency").split(","))
+                        .map(String::trim)
+                        .map(Integer::parseInt)
+                        .toList(),
+                Duration.parse("PT" + properties.getProperty("loadtest.warmup").toUpperCase()),
+                Duration.parse("PT" + properties.getProperty("loadtest.step-duration").toUpperCase()),
+                Path.of(properties.getProperty("loadtest.output-dir")),
+                intValue(properties, "loadtest.partitioning.users"),
+                Long.parseLong(properties.getProperty("loadtest.partitioning.goals").trim()),
+                intValue(properties, "loadtest.partitioning.answers-per-goal"),
+                intValue(properties, "loadtest.partitioning.partitions"),
+                intValue(properties, "loadtest.partitioning.writers"),
+                intValue(properties, "loadtest.partitioning.reads"),
+                Arrays.stream(properties.getProperty("loadtest.startup.targets").split(","))
+                        .map(String::trim)
+                        .filter(target -> !target.isEmpty())
+                        .map(StartupBenchmark.Target::parse)
+                        .toList(),
+                intValue(properties, "loadtest.startup.runs"),
+                Arrays.stream(properties.getProperty("loadtest.startup.docker-args").trim().split("\\s+"))
+                        .filter(arg -> !arg.isEmpty())
+                        .toList(),
+                properties.getProperty("loadtest.startup.ready-path"),
+                properties.getProperty("loadtest.startup.warmup-path"),
+                intValue(properties, "loadtest.startup.warmup-requests"),
+                durationValue(properties, "loadtest.startup.settle"),
+                durationValue(properties, "loadtest.startup.timeout")
+        );
+    }
+
+    private static int intValue(Properties properties, String key) {
+        return Integer.parseInt(properties.getProperty(key).trim());
+    }
+
+    private static Duration durationValue(Properties properties, String key) {
+        return Duration.parse("PT" + properties.getProperty(key).trim().toUpperCase());
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Workload mix has no operations");
+        }
+        return mix;
+    }
+}
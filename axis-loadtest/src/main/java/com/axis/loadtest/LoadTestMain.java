@@ -0,0 +1,96 @@
+package com.axis.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Entry point of the axis-goal load test.
+ * <pre>
+ *   keygen  - create the RS256 key pair used to sign user tokens
+ *   seed    - seed synthetic users and write the seed manifest
+ *   run     - replay the workload against the users in the seed manifest
+ *   all     - seed, then run
+ *   clean   - delete the users in the seed manifest
+ *   partitioning - compare heap and hash-partitioned goal tables (insert, vacuum, reads)
+ *   startup - compare time to first request and RSS of the JVM and native service images
+ * </pre>
+ */
+public final class LoadTestMain {
+
+    private static final String MANIFEST_FILE = "seed-manifest.json";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String command = args.length > 0 ? args[0] : "all";
+        LoadTestConfig config = LoadTestConfig.load();
+
+        switch (command) {
+            case "keygen" -> {
+                TokenIssuer.generateKeys(config.keyDir());
+                System.out.println("Keys written to " + config.keyDir().toAbsolutePath());
+                System.out.println("Start axis-goal with -Dquarkus.profile=loadtest and LOADTEST_PUBLIC_KEY=$(cat "
+                        + config.keyDir().resolve(TokenIssuer.PUBLIC_KEY_FILE) + ")");
+            }
+            case "seed" -> seed(config);
+            case "run" -> run(config, readManifest(config));
+            case "all" -> run(config, seed(config));
+            case "clean" -> {
+                List<SeededUser> users = readManifest(config);
+                new DataSeeder(config).clean(users);
+                Files.delete(config.outputDir().resolve(MANIFEST_FILE));
+                System.out.printf("Deleted %d seeded users%n", users.size());
+            }
+            case "partitioning" -> {
+                Path runDir = config.outputDir().resolve("partitioning-"
+                        + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+                new PartitionBenchmark(config).run(runDir);
+                System.out.println("Results written to " + runDir.toAbsolutePath());
+            }
+            case "startup" -> {
+                Path runDir = config.outputDir().resolve("startup-"
+                        + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+                new StartupBenchmark(config).run(runDir);
+                System.out.println("Results written to " + runDir.toAbsolutePath());
+            }
+            default -> {
+                System.err.println("Unknown command '" + command
+                        + "', expected keygen|seed|run|all|clean|partitioning|startup");
+                System.exit(2);
+            }
+        }
+    }
+
+    private static List<SeededUser> seed(LoadTestConfig config) throws Exception {
+        List<SeededUser> users = new DataSeeder(config).seed();
+        Files.createDirectories(config.outputDir());
+        MAPPER.writeValue(config.outputDir().resolve(MANIFEST_FILE).toFile(), users);
+        return users;
+    }
+
+    private static void run(LoadTestConfig config, List<SeededUser> users) throws Exception {
+        TokenIssuer tokenIssuer = TokenIssuer.fromKeyDir(config.keyDir());
+        List<LoadRunner.StepResult> results = new LoadRunner(config, users, tokenIssuer).run();
+
+        Path runDir = config.outputDir()
+                .resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        ReportWriter.write(runDir, results);
+        System.out.println("Results written to " + runDir.toAbsolutePath());
+    }
+
+    private static List<SeededUser> readManifest(LoadTestConfig config) throws Exception {
+        Path manifest = config.outputDir().resolve(MANIFEST_FILE);
+        if (!Files.exists(manifest)) {
+            throw new IllegalStateException("No seed manifest at " + manifest + ", run the 'seed' command first");
+        }
+        return MAPPER.readValue(manifest.toFile(), new TypeReference<>() {});
+    }
+}
@@ -0,0 +1,130 @@
+package com.axis.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Calls replayed against {@code GoalController} and {@code CustomFieldAnswerController}.
+ * Each operation is recorded under its route template so percentiles are reported per endpoint.
+ */
+public enum Operation {
+
+    LIST_GOALS("listGoals", "GET /api/goals") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/goals?page=" + random.nextInt(3) + "&size=20");
+        }
+    },
+    LIST_BY_STATUS("listByStatus", "GET /api/goals/status/{status}") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/goals/status/" + pick(STATUSES, random) + "?size=20");
+        }
+    },
+    LIST_BY_TYPE("listByType", "GET /api/goals/type/{typeId}") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/goals/type/" + pick(user.typeIds(), random) + "?size=20");
+        }
+    },
+    GET_GOAL("getGoal", "GET /api/goals/{id}") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/goals/" + pick(user.goals(), random).id());
+        }
+    },
+    CREATE_GOAL("createGoal", "POST /api/goals") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random) {
+            UUID typeId = pick(user.typeIds(), random);
+            StringBuilder answers = new StringBuilder();
+            for (UUID definitionId : user.definitionIdsByType().getOrDefault(typeId, List.of())) {
+                if (!answers.isEmpty()) {
+                    answers.append(',');
+                }
+                answers.append("{\"fieldDefinitionId\":\"").append(definitionId)
+                        .append("\",\"value\":\"value-").append(random.nextInt(1000)).append("\"}");
+            }
+            String body = "{\"title\":\"Load test goal " + random.nextInt(100_000) + "\","
+                    + "\"description\":\"Created by axis-loadtest\","
+                    + "\"typeId\":\"" + typeId + "\","
+                    + "\"status\":\"NOT_STARTED\","
+                    + "\"customAnswers\":[" + answers + "]}";
+            return json(baseUrl + "/api/goals", "POST", body);
+        }
+    },
+    PATCH_GOAL("patchGoal", "PATCH /api/goals/{id}") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random) {
+            SeededUser.Goal goal = pick(user.goals(), random);
+            String body = "{\"title\":\"Patched goal " + random.nextInt(100_000) + "\","
+                    + "\"typeId\":\"" + goal.typeId() + "\","
+                    + "\"status\":\"" + pick(STATUSES, random) + "\"}";
+            return json(baseUrl + "/api/goals/" + goal.id(), "PATCH", body);
+        }
+    },
+    LIST_ANSWERS("listAnswers", "GET /api/goals/{goalId}/custom-field-answers") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random) {
+            return get(baseUrl + "/api/goals/" + pick(user.goals(), random).id() + "/custom-field-answers");
+        }
+    },
+    PATCH_ANSWER("patchAnswer", "PATCH /api/goals/{goalId}/custom-field-answers/{id}") {
+        @Override
+        HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random) {
+            SeededUser.Answer answer = pick(user.answers(), random);
+            String body = "{\"fieldDefinitionId\":\"" + answer.fieldDefinitionId() + "\","
+                    + "\"value\":\"patched-" + random.nextInt(1000) + "\"}";
+            return json(baseUrl + "/api/goals/" + answer.goalId() + "/custom-field-answers/" + answer.id(),
+                    "PATCH", body);
+        }
+    };
+
+    private static final List<String> STATUSES = List.of("NOT_STARTED", "IN_PROGRESS", "COMPLETED", "ON_HOLD");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Builds the request for a random target owned by {@code user}; the caller adds the bearer token.
+     */
+    abstract HttpRequest.Builder request(String baseUrl, SeededUser user, ThreadLocalRandom random);
+
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + key));
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static HttpRequest.Builder json(String url, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,380 @@
+package com.axis.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the plain goal tables with the hash-partitioned layout of {@code V7__partition_goals_by_user.sql}.
+ * <p>
+ * Both layouts are built in scratch schemas ({@code bench_heap}, {@code bench_partitioned}) of the target database
+ * with the same columns, keys and user-leading indexes, and autovacuum disabled. For each layout the benchmark
+ * measures:
+ * <ul>
+ *     <li>insert throughput - {@code writers} connections inserting generated rows in chunks of {@value #CHUNK_ROWS}</li>
+ *     <li>vacuum cost - {@code VACUUM} of every table or partition after updating 10% of the goals; the largest
+ *     single vacuum bounds how long one autovacuum worker is busy</li>
+ *     <li>user-scoped read latency - the board query and the answers of one goal, for random users</li>
+ *     <li>whether the board query is pruned to a single partition ({@code EXPLAIN})</li>
+ * </ul>
+ * Results go to {@code summary.csv} and {@code latency.csv}; the scratch schemas are dropped afterwards.
+ */
+public class PartitionBenchmark {
+
+    private static final String[] VARIANTS = {"heap", "partitioned"};
+    private static final long CHUNK_ROWS = 50_000;
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+    private static final double[] PERCENTILES = {50, 99, 99.9};
+
+    private static final String GOALS_COLUMNS = """
+            id UUID NOT NULL,
+            user_id UUID NOT NULL,
+            title VARCHAR(255) NOT NULL,
+            status VARCHAR(50) NOT NULL,
+            goal_type_id UUID NOT NULL,
+            parent_id UUID,
+            created_at TIMESTAMP NOT NULL,
+            updated_at TIMESTAMP NOT NULL,
+            version BIGINT NOT NULL DEFAULT 0,
+            deleted_at TIMESTAMP""";
+
+    private static final String ANSWERS_COLUMNS = """
+            id UUID NOT NULL,
+            goal_id UUID NOT NULL,
+            user_id UUID NOT NULL,
+            field_definition_id UUID NOT NULL,
+            field_value TEXT,
+            version BIGINT NOT NULL DEFAULT 0""";
+
+    private static final String BOARD_QUERY = "SELECT id, title, status, version FROM %s.goals"
+            + " WHERE user_id = ?::uuid AND deleted_at IS NULL ORDER BY created_at DESC LIMIT 50";
+    private static final String ANSWERS_QUERY = "SELECT id, field_definition_id, field_value FROM %s.custom_field_answers"
+            + " WHERE user_id = ?::uuid AND goal_id = ?::uuid";
+
+    private final LoadTestConfig config;
+    private final long answers;
+
+    public PartitionBenchmark(LoadTestConfig config) {
+        this.config = config;
+        this.answers = config.partitioningGoals() * config.partitioningAnswersPerGoal();
+    }
+
+    public void run(Path runDir) throws Exception {
+        Files.createDirectories(runDir);
+        List<String> summary = new ArrayList<>();
+        List<String> latency = new ArrayList<>();
+
+        for (String variant : VARIANTS) {
+            String schema = "bench_" + variant;
+            try (Connection connection = connect()) {
+                createSchema(connection, schema, variant.equals("partitioned"));
+
+                double goalRate = insert(schema, "goals", config.partitioningGoals(), goalsInsert(schema));
+                double answerRate = insert(schema, "custom_field_answers", answers, answersInsert(schema));
+                execute(connection, "ANALYZE " + schema + ".goals");
+                execute(connection, "ANALYZE " + schema + ".custom_field_answers");
+
+                int scannedPartitions = scannedPartitions(connection, schema);
+                System.out.printf("[%s] board query scans %d partition(s)%n", variant, scannedPartitions);
+
+                Histogram board = read(schema, false);
+                Histogram goalAnswers = read(schema, true);
+                latency.add(latencyRow(variant, "board", board));
+                latency.add(latencyRow(variant, "goal-answers", goalAnswers));
+
+                execute(connection, "UPDATE " + schema + ".goals SET status = 'COMPLETED', version = version + 1,"
+                        + " updated_at = now() WHERE abs(hashtext(id::text)) % 10 = 0");
+                long[] goalsVacuum = vacuum(connection, schema, "goals");
+                long[] answersVacuum = vacuum(connection, schema, "custom_field_answers");
+
+                summary.add(summaryRow(variant, "goals", config.partitioningGoals(), goalRate, goalsVacuum,
+                        totalSize(connection, schema, "goals"), scannedPartitions));
+                summary.add(summaryRow(variant, "custom_field_answers", answers, answerRate, answersVacuum,
+                        totalSize(connection, schema, "custom_field_answers"), scannedPartitions));
+
+                execute(connection, "DROP SCHEMA " + schema + " CASCADE");
+            }
+        }
+
+        write(runDir.resolve("summary.csv"),
+                "variant,table,rows,insert_rows_per_s,vacuum_total_ms,vacuum_max_ms,size_mb,board_partitions_scanned",
+                summary);
+        write(runDir.resolve("latency.csv"), "variant,query,reads,p50_ms,p99_ms,p999_ms,max_ms", latency);
+    }
+
+    private void createSchema(Connection connection, String schema, boolean partitioned) throws SQLException {
+        execute(connection, "DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        execute(connection, "CREATE SCHEMA " + schema);
+        if (partitioned) {
+            execute(connection, "CREATE TABLE " + schema + ".goals (" + GOALS_COLUMNS + ") PARTITION BY HASH (user_id)");
+            execute(connection, "CREATE TABLE " + schema + ".custom_field_answers (" + ANSWERS_COLUMNS
+                    + ") PARTITION BY HASH (user_id)");
+            int partitions = config.partitioningPartitions();
+            for (int remainder = 0; remainder < partitions; remainder++) {
+                for (String table : List.of("goals", "custom_field_answers")) {
+                    execute(connection, String.format(Locale.ROOT,
+                            "CREATE TABLE %s.%s_p%02d PARTITION OF %s.%s FOR VALUES WITH (MODULUS %d, REMAINDER %d)"
+                                    + " WITH (autovacuum_enabled = false)",
+                            schema, table, remainder, schema, table, partitions, remainder));
+                }
+            }
+            execute(connection, "ALTER TABLE " + schema + ".goals ADD PRIMARY KEY (id, user_id)");
+            execute(connection, "ALTER TABLE " + schema + ".goals ADD FOREIGN KEY (parent_id, user_id)"
+                    + " REFERENCES " + schema + ".goals(id, user_id) ON DELETE CASCADE");
+            execute(connection, "ALTER TABLE " + schema + ".custom_field_answers ADD PRIMARY KEY (id, user_id)");
+            execute(connection, "ALTER TABLE " + schema + ".custom_field_answers ADD FOREIGN KEY (goal_id, user_id)"
+                    + " REFERENCES " + schema + ".goals(id, user_id) ON DELETE CASCADE");
+        } else {
+            execute(connection, "CREATE TABLE " + schema + ".goals (" + GOALS_COLUMNS + ", PRIMARY KEY (id),"
+                    + " FOREIGN KEY (parent_id) REFERENCES " + schema + ".goals(id) ON DELETE CASCADE)"
+                    + " WITH (autovacuum_enabled = false)");
+            execute(connection, "CREATE TABLE " + schema + ".custom_field_answers (" + ANSWERS_COLUMNS
+                    + ", PRIMARY KEY (id), FOREIGN KEY (goal_id) REFERENCES " + schema + ".goals(id) ON DELETE CASCADE)"
+                    + " WITH (autovacuum_enabled = false)");
+        }
+        execute(connection, "CREATE INDEX ON " + schema + ".goals(user_id, created_at)");
+        execute(connection, "CREATE INDEX ON " + schema + ".goals(user_id, status)");
+        execute(connection, "CREATE INDEX ON " + schema + ".goals(parent_id)");
+        execute(connection, "CREATE INDEX ON " + schema + ".goals(deleted_at) WHERE deleted_at IS NOT NULL");
+        execute(connection, "CREATE INDEX ON " + schema + ".custom_field_answers(user_id, goal_id)");
+    }
+
+    /**
+     * Goal {@code n} belongs to user {@code n % users}; ids are derived from the row number so answers can
+     * reference their goal without reading it back. Goals are inserted as roots: a parent in a chunk that another
+     * writer has claimed but not yet committed would fail the foreign key check.
+     */
+    private String goalsInsert(String schema) {
+        return "INSERT INTO " + schema + ".goals (id, user_id, title, status, goal_type_id, created_at, updated_at)"
+                + " SELECT md5('g' || n)::uuid, md5('u' || (n % " + config.partitioningUsers() + "))::uuid,"
+                + " 'Goal ' || n, 'IN_PROGRESS', md5('t' || (n % " + config.partitioningUsers() + "))::uuid,"
+                + " now() - make_interval(secs => n % 86400), now()"
+                + " FROM generate_series(?::bigint, ?::bigint) n";
+    }
+
+    private String answersInsert(String schema) {
+        int perGoal = config.partitioningAnswersPerGoal();
+        return "INSERT INTO " + schema + ".custom_field_answers (id, goal_id, user_id, field_definition_id, field_value)"
+                + " SELECT md5('a' || n)::uuid, md5('g' || (n / " + perGoal + "))::uuid,"
+                + " md5('u' || ((n / " + perGoal + ") % " + config.partitioningUsers() + "))::uuid,"
+                + " md5('f' || (n % " + perGoal + "))::uuid, 'value ' || n"
+                + " FROM generate_series(?::bigint, ?::bigint) n";
+    }
+
+    /**
+     * Inserts {@code rows} rows in chunks claimed by {@code writers} connections, each chunk in its own transaction.
+     *
+     * @return rows per second
+     */
+    private double insert(String schema, String table, long rows, String sql) throws Exception {
+        AtomicLong next = new AtomicLong();
+        AtomicLong inserted = new AtomicLong();
+        long started = System.nanoTime();
+        try (ExecutorService writers = Executors.newFixedThreadPool(config.partitioningWriters())) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < config.partitioningWriters(); i++) {
+                futures.add(writers.submit(() -> {
+                    try (Connection connection = connect(); PreparedStatement statement = connection.prepareStatement(sql)) {
+                        long from;
+                        while ((from = next.getAndAdd(CHUNK_ROWS)) < rows) {
+                            statement.setLong(1, from);
+                            statement.setLong(2, Math.min(from + CHUNK_ROWS, rows) - 1);
+                            long done = inserted.addAndGet(statement.executeUpdate());
+                            if (done % (CHUNK_ROWS * 100) == 0) {
+                                System.out.printf("[%s] %s: %d/%d rows%n", schema, table, done, rows);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        double rate = rows / seconds;
+        System.out.printf(Locale.ROOT, "[%s] %s: %d rows in %.1fs (%.0f rows/s)%n", schema, table, rows, seconds, rate);
+        return rate;
+    }
+
+    /**
+     * Runs {@code reads} queries for random users (and, for answers, one of the user's goals) on {@code writers}
+     * connections. The statements are prepared, so after pgjdbc's prepare threshold they run as generic plans and
+     * the partitioned variant prunes at executor startup.
+     */
+    private Histogram read(String schema, boolean answers) throws Exception {
+        Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        AtomicLong remaining = new AtomicLong(config.partitioningReads());
+        String sql = String.format(answers ? ANSWERS_QUERY : BOARD_QUERY, schema);
+        long users = config.partitioningUsers();
+        long goalsPerUser = Math.max(1, config.partitioningGoals() / users);
+        try (ExecutorService readers = Executors.newFixedThreadPool(config.partitioningWriters())) {
+            List<Future<Histogram>> futures = new ArrayList<>();
+            for (int i = 0; i < config.partitioningWriters(); i++) {
+                futures.add(readers.submit(() -> {
+                    Histogram local = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+                    try (Connection connection = connect(); PreparedStatement statement = connection.prepareStatement(sql)) {
+                        while (remaining.getAndDecrement() > 0) {
+                            ThreadLocalRandom random = ThreadLocalRandom.current();
+                            long user = random.nextLong(users);
+                            long goal = user + random.nextLong(goalsPerUser) * users;
+                            statement.setString(1, md5Uuid("u" + user));
+                            if (answers) {
+                                statement.setString(2, md5Uuid("g" + goal));
+                            }
+                            long started = System.nanoTime();
+                            try (ResultSet resultSet = statement.executeQuery()) {
+                                while (resultSet.next()) {
+                                    resultSet.getString(1);
+                                }
+                            }
+                            local.recordValue(Math.min((System.nanoTime() - started) / 1_000, HIGHEST_TRACKABLE_MICROS));
+                        }
+                    }
+                    return local;
+                }));
+            }
+            for (Future<Histogram> future : futures) {
+                histogram.add(future.get());
+            }
+        }
+        return histogram;
+    }
+
+    private int scannedPartitions(Connection connection, String schema) throws SQLException {
+        String user = md5Uuid("u0");
+        int scans = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN " + String.format(BOARD_QUERY, schema)
+                     .replace("?::uuid", "'" + user + "'::uuid"))) {
+            while (plan.next()) {
+                String line = plan.getString(1);
+                if (line.contains(" on goals") || line.contains(" on " + schema + ".goals")) {
+                    scans++;
+                }
+            }
+        }
+        return scans;
+    }
+
+    /**
+     * Vacuums the table, or each partition separately, as autovacuum would.
+     *
+     * @return total and largest single vacuum time in milliseconds
+     */
+    private long[] vacuum(Connection connection, String schema, String table) throws SQLException {
+        long total = 0;
+        long max = 0;
+        for (String relation : relations(connection, schema, table)) {
+            long started = System.nanoTime();
+            execute(connection, "VACUUM " + relation);
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            total += millis;
+            max = Math.max(max, millis);
+        }
+        return new long[]{total, max};
+    }
+
+    private long totalSize(Connection connection, String schema, String table) throws SQLException {
+        long bytes = 0;
+        for (String relation : relations(connection, schema, table)) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_total_relation_size(?::regclass)")) {
+                statement.setString(1, relation);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    bytes += resultSet.getLong(1);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * The partitions of a partitioned table, or the table itself.
+     */
+    private List<String> relations(Connection connection, String schema, String table) throws SQLException {
+        List<String> relations = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT inhrelid::regclass::text FROM pg_inherits WHERE inhparent = ?::regclass ORDER BY 1")) {
+            statement.setString(1, schema + "." + table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    relations.add(resultSet.getString(1));
+                }
+            }
+        }
+        if (relations.isEmpty()) {
+            relations.add(schema + "." + table);
+        }
+        return relations;
+    }
+
+    /**
+     * Same derivation as {@code md5(value)::uuid} in the insert statements, done client side to keep it out of
+     * the measured queries.
+     */
+    private static String md5Uuid(String value) {
+        try {
+            String hex = HexFormat.of().formatHex(
+                    MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8)));
+            return hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-" + hex.substring(12, 16) + "-"
+                    + hex.substring(16, 20) + "-" + hex.substring(20);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(config.jdbcUrl(), config.dbUser(), config.dbPassword());
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String summaryRow(String variant, String table, long rows, double insertRate, long[] vacuum,
+                                     long sizeBytes, int scannedPartitions) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%.0f,%d,%d,%.1f,%d", variant, table, rows, insertRate,
+                vacuum[0], vacuum[1], sizeBytes / (1024.0 * 1024.0), scannedPartitions);
+    }
+
+    private static String latencyRow(String variant, String query, Histogram histogram) {
+        StringBuilder row = new StringBuilder(variant).append(',').append(query).append(',')
+                .append(histogram.getTotalCount());
+        for (double percentile : PERCENTILES) {
+            row.append(String.format(Locale.ROOT, ",%.3f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        return row.append(String.format(Locale.ROOT, ",%.3f", histogram.getMaxValue() / 1000.0)).toString();
+    }
+
+    private static void write(Path file, String header, List<String> rows) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println(header);
+            rows.forEach(out::println);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.axis.loadtest;
+
+import com.axis.loadtest.LoadRunner.EndpointStats;
+import com.axis.loadtest.LoadRunner.StepResult;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the results of a run:
+ * <ul>
+ *     <li>{@code throughput.csv} - the throughput curve, one row per concurrency level</li>
+ *     <li>{@code latency.csv} - percentiles per endpoint and concurrency level</li>
+ *     <li>{@code histograms/c{N}/*.hgrm} - full HdrHistogram percentile distributions (values in ms)</li>
+ * </ul>
+ */
+public final class ReportWriter {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private ReportWriter() {
+    }
+
+    public static void write(Path runDir, List<StepResult> results) throws IOException {
+        Files.createDirectories(runDir);
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(runDir.resolve("throughput.csv")))) {
+            out.println("concurrency,requests,errors,throughput_rps,p50_ms,p99_ms");
+            for (StepResult result : results) {
+                EndpointStats total = result.total();
+                out.println(String.format(Locale.ROOT, "%d,%d,%d,%.1f,%.3f,%.3f",
+                        result.concurrency(), total.count(), total.errors(), result.throughput(),
+                        total.p50Millis(), total.p99Millis()));
+            }
+        }
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(runDir.resolve("latency.csv")))) {
+            out.println("concurrency,endpoint,requests,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+            for (StepResult result : results) {
+                for (EndpointStats stats : result.endpoints()) {
+                    writeLatencyRow(out, result.concurrency(), stats);
+                }
+                writeLatencyRow(out, result.concurrency(), result.total());
+            }
+        }
+
+        for (StepResult result : results) {
+            Path stepDir = runDir.resolve("histograms").resolve("c" + result.concurrency());
+            Files.createDirectories(stepDir);
+            writeHistogram(stepDir, result.total());
+            for (EndpointStats stats : result.endpoints()) {
+                writeHistogram(stepDir, stats);
+            }
+        }
+    }
+
+    private static void writeLatencyRow(PrintWriter out, int concurrency, EndpointStats stats) {
+        StringBuilder row = new StringBuilder()
+                .append(concurrency).append(",\"").append(stats.endpoint()).append("\",")
+                .append(stats.count()).append(',').append(stats.errors());
+        for (double percentile : PERCENTILES) {
+            row.append(',').append(String.format(Locale.ROOT, "%.3f", stats.percentileMillis(percentile)));
+        }
+        row.append(',').append(String.format(Locale.ROOT, "%.3f", stats.maxMillis()));
+        out.println(row);
+    }
+
+    private static void writeHistogram(Path stepDir, EndpointStats stats) throws IOException {
+        if (stats.count() == 0) {
+            return;
+        }
+        String fileName = stats.endpoint().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+        try (PrintStream out = new PrintStream(Files.newOutputStream(stepDir.resolve(fileName)))) {
+            stats.histogram().outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
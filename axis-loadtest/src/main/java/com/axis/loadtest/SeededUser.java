@@ -0,0 +1,21 @@
+package com.axis.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ids of the data seeded for one synthetic user. Persisted in the seed manifest so runs can reuse a data set.
+ */
+public record SeededUser(
+        UUID userId,
+        List<UUID> typeIds,
+        Map<UUID, List<UUID>> definitionIdsByType,
+        List<Goal> goals,
+        List<Answer> answers
+) {
+
+    public record Goal(UUID id, UUID typeId, int depth) {}
+
+    public record Answer(UUID id, UUID goalId, UUID fieldDefinitionId) {}
+}
@@ -0,0 +1,209 @@
+package com.axis.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+/**
+ * Compares the JVM and native images of the services on startup time and memory.
+ * <p>
+ * Every target is started {@code runs} times, each time in a fresh container created with {@code docker-args}.
+ * A run records:
+ * <ul>
+ *     <li>time to first request - from {@code docker start} to the first 200 of {@code ready-path}</li>
+ *     <li>RSS right after the first request</li>
+ *     <li>steady-state RSS - the median of one sample per second over {@code settle}, taken after
+ *     {@code warmup-requests} requests to {@code warmup-path}</li>
+ * </ul>
+ * RSS is {@code VmRSS} of the container's main process, read from {@code /proc} of the Docker host, so the benchmark
+ * needs a local Linux Docker daemon. Results go to {@code runs.csv} (every run) and {@code summary.csv} (medians per
+ * target).
+ */
+public class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(2);
+    private static final int WARMUP_CONCURRENCY = 8;
+
+    /**
+     * A service image, written as {@code name=image@port} in {@code loadtest.startup.targets}
+     */
+    public record Target(String name, String image, int port) {
+
+        static Target parse(String value) {
+            int equals = value.indexOf('=');
+            int at = value.lastIndexOf('@');
+            if (equals <= 0 || at < equals) {
+                throw new IllegalArgumentException("Invalid startup target '" + value + "', expected name=image@port");
+            }
+            return new Target(value.substring(0, equals).trim(), value.substring(equals + 1, at).trim(),
+                    Integer.parseInt(value.substring(at + 1).trim()));
+        }
+    }
+
+    private record RunResult(long firstRequestMillis, long startRssKb, long steadyRssKb, int warmupErrors) {
+    }
+
+    private final LoadTestConfig config;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+
+    public StartupBenchmark(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public void run(Path runDir) throws Exception {
+        Files.createDirectories(runDir);
+        List<String> runs = new ArrayList<>();
+        List<String> summary = new ArrayList<>();
+
+        for (Target target : config.startupTargets()) {
+            List<RunResult> results = new ArrayList<>();
+            for (int run = 1; run <= config.startupRuns(); run++) {
+                RunResult result = measure(target);
+                System.out.printf(Locale.ROOT, "[%s] run %d: first request after %d ms, RSS %.1f MB at start, "
+                                + "%.1f MB steady (%d warmup errors)%n", target.name(), run, result.firstRequestMillis(),
+                        megabytes(result.startRssKb()), megabytes(result.steadyRssKb()), result.warmupErrors());
+                runs.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.1f,%d", target.name(), target.image(), run,
+                        result.firstRequestMillis(), megabytes(result.startRssKb()), megabytes(result.steadyRssKb()),
+                        result.warmupErrors()));
+                results.add(result);
+            }
+            summary.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.1f", target.name(), target.image(),
+                    results.size(), median(results, RunResult::firstRequestMillis),
+                    megabytes(median(results, RunResult::startRssKb)),
+                    megabytes(median(results, RunResult::steadyRssKb))));
+        }
+
+        write(runDir.resolve("runs.csv"),
+                "target,image,run,first_request_ms,start_rss_mb,steady_rss_mb,warmup_errors", runs);
+        write(runDir.resolve("summary.csv"),
+                "target,image,runs,first_request_ms,start_rss_mb,steady_rss_mb", summary);
+    }
+
+    private RunResult measure(Target target) throws Exception {
+        List<String> create = new ArrayList<>(List.of("create"));
+        create.addAll(config.startupDockerArgs());
+        create.add(target.image());
+        String container = docker(create).trim();
+        try {
+            long start = System.nanoTime();
+            docker(List.of("start", container));
+            long firstRequestMillis = awaitFirstResponse(target, start);
+            long pid = Long.parseLong(docker(List.of("inspect", "-f", "{{.State.Pid}}", container)).trim());
+            long startRssKb = rssKb(pid);
+            int warmupErrors = warmUp(target);
+            return new RunResult(firstRequestMillis, startRssKb, settle(pid), warmupErrors);
+        } finally {
+            docker(List.of("rm", "-f", container));
+        }
+    }
+
+    private long awaitFirstResponse(Target target, long start) throws InterruptedException {
+        HttpRequest request = request(target, config.startupReadyPath());
+        long deadline = start + config.startupTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+        throw new IllegalStateException(target.name() + " did not answer " + config.startupReadyPath()
+                + " within " + config.startupTimeout());
+    }
+
+    private int warmUp(Target target) throws InterruptedException {
+        HttpRequest request = request(target, config.startupWarmupPath());
+        AtomicInteger remaining = new AtomicInteger(config.startupWarmupRequests());
+        AtomicInteger errors = new AtomicInteger();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < WARMUP_CONCURRENCY; i++) {
+                workers.execute(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        try {
+                            if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        return errors.get();
+    }
+
+    private long settle(long pid) throws IOException, InterruptedException {
+        List<Long> samples = new ArrayList<>();
+        long seconds = Math.max(1, config.startupSettle().toSeconds());
+        for (long i = 0; i < seconds; i++) {
+            Thread.sleep(Duration.ofSeconds(1));
+            samples.add(rssKb(pid));
+        }
+        return samples.stream().sorted().toList().get(samples.size() / 2);
+    }
+
+    private HttpRequest request(Target target, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + target.port() + path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private static long rssKb(long pid) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+            }
+        }
+        throw new IllegalStateException("No VmRSS for process " + pid);
+    }
+
+    private static String docker(List<String> args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("docker"));
+        command.addAll(args);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(String.join(" ", command) + " failed: " + output.trim());
+        }
+        return output;
+    }
+
+    private static long median(List<RunResult> results, ToLongFunction<RunResult> value) {
+        long[] values = results.stream().mapToLong(value).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static double megabytes(long kilobytes) {
+        return kilobytes / 1024.0;
+    }
+
+    private static void write(Path file, String header, List<String> rows) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println(header);
+            rows.forEach(out::println);
+        }
+    }
+}
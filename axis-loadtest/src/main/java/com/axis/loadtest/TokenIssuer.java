@@ -0,0 +1,82 @@
+package com.axis.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Signs RS256 bearer tokens for synthetic users, so load runs do not depend on Keycloak.
+ * axis-goal verifies them with the matching public key in the {@code loadtest} profile.
+ */
+public final class TokenIssuer {
+
+    static final String PRIVATE_KEY_FILE = "private-key.txt";
+    static final String PUBLIC_KEY_FILE = "public-key.txt";
+
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String HEADER = URL_ENCODER.encodeToString(
+            "{\"alg\":\"RS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final PrivateKey privateKey;
+
+    private TokenIssuer(PrivateKey privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    /**
+     * Writes a new RSA key pair to {@code keyDir}. The public key file holds the base64 DER value expected by
+     * {@code quarkus.oidc.public-key}.
+     */
+    public static void generateKeys(Path keyDir) throws IOException, GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Files.createDirectories(keyDir);
+        Base64.Encoder encoder = Base64.getEncoder();
+        Files.writeString(keyDir.resolve(PRIVATE_KEY_FILE), encoder.encodeToString(keyPair.getPrivate().getEncoded()));
+        Files.writeString(keyDir.resolve(PUBLIC_KEY_FILE), encoder.encodeToString(keyPair.getPublic().getEncoded()));
+    }
+
+    public static TokenIssuer fromKeyDir(Path keyDir) throws IOException, GeneralSecurityException {
+        Path privateKeyFile = keyDir.resolve(PRIVATE_KEY_FILE);
+        if (!Files.exists(privateKeyFile)) {
+            throw new IllegalStateException("No signing key in " + keyDir + ", run the 'keygen' command first");
+        }
+        byte[] der = Base64.getDecoder().decode(Files.readString(privateKeyFile).trim());
+        return new TokenIssuer(KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der)));
+    }
+
+    /**
+     * Issues a token whose subject is the user id, which {@code SecurityUtils} reads as the current user.
+     */
+    public String issue(UUID userId, Duration lifetime) {
+        Instant now = Instant.now();
+        String payload = "{\"iss\":\"axis-loadtest\","
+                + "\"sub\":\"" + userId + "\","
+                + "\"preferred_username\":\"loadtest-" + userId + "\","
+                + "\"iat\":" + now.getEpochSecond() + ","
+                + "\"exp\":" + now.plus(lifetime).getEpochSecond() + "}";
+        String signingInput = HEADER + "." + URL_ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(privateKey);
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + URL_ENCODER.encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign token", e);
+        }
+    }
+}
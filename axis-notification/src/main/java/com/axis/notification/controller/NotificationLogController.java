@@ -1,5 +1,7 @@
 package com.axis.notification.controller;
 
+import com.axis.common.idempotency.Idempotent;
+import com.axis.common.rest.BinaryMediaType;
 import com.axis.notification.model.dto.PageResponse;
 import com.axis.notification.model.dto.NotificationLogRequest;
 import com.axis.notification.model.dto.NotificationLogResponse;
@@ -32,6 +34,7 @@ public class NotificationLogController {
     NotificationLogService service;
 
     @POST
+    @Idempotent
     @Operation(summary = "Create notification log", description = "Creates a new notification log entry for the current user")
     @APIResponses({
             @APIResponse(responseCode = "201", description = "Notification created successfully"),
@@ -59,6 +62,7 @@ public class NotificationLogController {
     }
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
     @Operation(summary = "List user notifications", description = "Retrieves all notifications for the current user with pagination")
     @APIResponses({
             @APIResponse(responseCode = "200", description = "Notifications retrieved successfully"),
@@ -74,6 +78,7 @@ public class NotificationLogController {
     }
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
     @Path("/status/{status}")
     @Operation(summary = "List notifications by status", description = "Retrieves notifications filtered by status for the current user")
     @APIResponses({
@@ -91,6 +96,7 @@ public class NotificationLogController {
     }
 
     @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.CBOR, BinaryMediaType.SMILE})
     @Path("/channel/{channel}")
     @Operation(summary = "List notifications by channel", description = "Retrieves notifications filtered by channel for the current user")
     @APIResponses({
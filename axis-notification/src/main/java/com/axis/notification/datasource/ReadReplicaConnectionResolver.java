@@ -0,0 +1,33 @@
+package com.axis.notification.datasource;
+
+import com.axis.common.datasource.ReplicaConnectionResolver;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusConnectionProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+/**
+ * Maps the tenant ids produced by {@link ReadReplicaTenantResolver} to the primary and replica pools
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class ReadReplicaConnectionResolver extends ReplicaConnectionResolver {
+
+    @Inject
+    AgroalDataSource primaryDataSource;
+
+    private ConnectionProvider primary;
+
+    @PostConstruct
+    void init() {
+        primary = new QuarkusConnectionProvider(primaryDataSource);
+    }
+
+    @Override
+    protected ConnectionProvider primary(String tenantId) {
+        return primary;
+    }
+}
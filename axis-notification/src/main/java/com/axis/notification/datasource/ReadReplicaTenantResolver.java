@@ -0,0 +1,73 @@
+package com.axis.notification.datasource;
+
+import com.axis.common.datasource.DataSourceRouting;
+import com.axis.common.datasource.ReplicaConnectionResolver;
+import com.axis.common.datasource.ReplicaLagMonitor;
+import com.axis.common.security.SecurityUtils;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantResolver;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Chooses the datasource for every new Hibernate session.
+ * <p>
+ * Sessions opened by {@code @ReadOnly} service methods go to the replica while it is healthy.
+ * Transactional sessions always use the primary and, once their transaction commits, mark the user as a recent
+ * writer, keeping the user's reads on the primary for the sticky window.
+ */
+@ApplicationScoped
+@PersistenceUnitExtension
+public class ReadReplicaTenantResolver implements TenantResolver {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = ReplicaConnectionResolver.REPLICA;
+
+    @Inject
+    ReplicaLagMonitor lagMonitor;
+
+    @Inject
+    SecurityUtils securityUtils;
+
+    @Inject
+    TransactionSynchronizationRegistry transactions;
+
+    @ConfigProperty(name = "axis.datasource.replica.sticky-window", defaultValue = "5s")
+    Duration stickyWindow;
+
+    @Override
+    public String getDefaultTenantId() {
+        return PRIMARY;
+    }
+
+    @Override
+    public String resolveTenantId() {
+        Optional<UUID> userId = currentUserId();
+
+        if (transactions.getTransactionKey() != null) {
+            userId.ifPresent(id -> DataSourceRouting.recordWriteOnCommit(transactions, id));
+            return PRIMARY;
+        }
+
+        boolean recentWriter = userId.map(id -> DataSourceRouting.wroteWithin(id, stickyWindow)).orElse(false);
+        if (DataSourceRouting.isReadOnly() && !recentWriter && lagMonitor.isReplicaUsable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    private Optional<UUID> currentUserId() {
+        try {
+            return securityUtils.getCurrentUserIdAsUUID();
+        } catch (RuntimeException e) {
+            // No request context (scheduled jobs, startup)
+            return Optional.empty();
+        }
+    }
+}
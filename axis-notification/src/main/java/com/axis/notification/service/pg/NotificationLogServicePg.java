@@ -7,8 +7,10 @@ import com.axis.notification.model.dto.NotificationLogResponse;
 import com.axis.notification.model.entity.NotificationLog;
 import com.axis.notification.repository.NotificationLogRepository;
 import com.axis.notification.service.NotificationLogService;
+import com.axis.common.datasource.ReadOnly;
 import com.axis.common.exception.BusinessException;
 import com.axis.common.exception.ResourceNotFoundException;
+import com.axis.common.metrics.MeasuredService;
 import com.axis.common.security.SecurityUtils;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
@@ -23,6 +25,7 @@ import java.util.UUID;
 
 @Slf4j
 @ApplicationScoped
+@MeasuredService
 public class NotificationLogServicePg implements NotificationLogService {
 
     @Inject
@@ -55,6 +58,7 @@ public class NotificationLogServicePg implements NotificationLogService {
     }
 
     @Override
+    @ReadOnly
     public NotificationLogResponse findById(UUID id) {
         UUID currentUserId = getCurrentUserId();
         log.debug("Finding notification log by id: {} for user: {}", id, currentUserId);
@@ -69,6 +73,7 @@ public class NotificationLogServicePg implements NotificationLogService {
     }
 
     @Override
+    @ReadOnly
     public PageResponse<NotificationLogResponse> findByCurrentUser(int page, int size, String sortBy, String sortDirection) {
         UUID currentUserId = getCurrentUserId();
         log.debug("Finding all notifications for user: {} with pagination: page={}, size={}", currentUserId, page, size);
@@ -90,6 +95,7 @@ public class NotificationLogServicePg implements NotificationLogService {
     }
 
     @Override
+    @ReadOnly
     public PageResponse<NotificationLogResponse> findByCurrentUserAndStatus(NotificationLog.Status status, int page, int size, String sortBy, String sortDirection) {
         UUID currentUserId = getCurrentUserId();
         log.debug("Finding notifications for user: {} with status: {} and pagination: page={}, size={}",
@@ -112,6 +118,7 @@ public class NotificationLogServicePg implements NotificationLogService {
     }
 
     @Override
+    @ReadOnly
     public PageResponse<NotificationLogResponse> findByCurrentUserAndChannel(NotificationLog.Channel channel, int page, int size, String sortBy, String sortDirection) {
         UUID currentUserId = getCurrentUserId();
         log.debug("Finding notifications for user: {} with channel: {} and pagination: page={}, size={}",
@@ -152,6 +159,7 @@ public class NotificationLogServicePg implements NotificationLogService {
     }
 
     @Override
+    @ReadOnly
     public long countUnread() {
         UUID currentUserId = getCurrentUserId();
         log.debug("Counting unread notifications for user: {}", currentUserId);
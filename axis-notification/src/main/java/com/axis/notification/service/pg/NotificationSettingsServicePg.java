@@ -7,6 +7,7 @@ import com.axis.notification.model.entity.NotificationSettings;
 import com.axis.notification.repository.NotificationSettingsRepository;
 import com.axis.notification.service.NotificationSettingsService;
 import com.axis.common.exception.BusinessException;
+import com.axis.common.metrics.MeasuredService;
 import com.axis.common.security.SecurityUtils;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -18,6 +19,7 @@ import java.util.UUID;
 
 @Slf4j
 @ApplicationScoped
+@MeasuredService
 public class NotificationSettingsServicePg implements NotificationSettingsService {
 
     @Inject
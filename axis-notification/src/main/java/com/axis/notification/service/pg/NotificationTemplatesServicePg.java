@@ -9,6 +9,7 @@ import com.axis.notification.repository.NotificationTemplatesRepository;
 import com.axis.notification.service.NotificationTemplatesService;
 import com.axis.common.exception.BusinessException;
 import com.axis.common.exception.ResourceNotFoundException;
+import com.axis.common.metrics.MeasuredService;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -22,6 +23,7 @@ import java.util.UUID;
 
 @Slf4j
 @ApplicationScoped
+@MeasuredService
 public class NotificationTemplatesServicePg implements NotificationTemplatesService {
 
     @Inject
@@ -0,0 +1,13 @@
+-- Create idempotency_keys table (Idempotency-Key support, JdbcIdempotencyStore in axis-common)
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(512) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    status INTEGER,
+    content_type VARCHAR(255),
+    body BYTEA,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Create index for purging expired keys
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
@@ -0,0 +1,2 @@
+-- Response headers replayed with a stored idempotent response (ETag, Location), one 'name: value' per line
+ALTER TABLE idempotency_keys ADD COLUMN headers TEXT;